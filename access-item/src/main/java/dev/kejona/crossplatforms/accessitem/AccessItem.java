@@ -93,7 +93,7 @@ public class AccessItem extends ConfiguredItem {
         }
     }
 
-    public void generatePermissions(AccessItemRegistry registry) {
+    public void generatePermissions(AccessItemConfig config) {
         if (permissions != null) {
             Logger.get().warn("Permissions in Access Item '" + identifier + "' have already been generated!");
         }
@@ -105,7 +105,7 @@ public class AccessItem extends ConfiguredItem {
             // Alright this is a bit janky. 1st, attempt to retrieve the permission default from this specific config.
             // If it is not specified for this item, then we check the global permission defaults.
             // If the user has not specified anything in the globals, then we use fallback values
-            PermissionDefault permissionDefault = permissionDefaults.getOrDefault(limit, registry.getGlobalPermissionDefaults().getOrDefault(limit, limit.fallbackDefault));
+            PermissionDefault permissionDefault = permissionDefaults.getOrDefault(limit, config.getGlobalPermissionDefaults().getOrDefault(limit, limit.fallbackDefault));
             permissions.put(limit, new Permission(mainPermission + limit.permissionSuffix, limit.description, permissionDefault));
         }
     }
@@ -29,6 +29,17 @@ public class AccessItemConfig extends Configuration {
 
     private boolean setHeldSlot = false;
 
+    /**
+     * How often the access items that players hold are updated, in milliseconds, if they show placeholders.
+     * 0 to disable.
+     */
+    private long refreshInterval = 0;
+
+    /**
+     * The most time to spend updating access items each tick, in milliseconds
+     */
+    private long refreshBudget = 2;
+
     private final Map<AccessItem.Limit, PermissionDefault> globalPermissionDefaults = Collections.emptyMap();
 
     private Map<String, AccessItem> items = Collections.emptyMap();
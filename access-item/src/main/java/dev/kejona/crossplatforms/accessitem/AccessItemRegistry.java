@@ -8,37 +8,31 @@ import dev.kejona.crossplatforms.permission.PermissionDefault;
 import dev.kejona.crossplatforms.permission.Permissions;
 import dev.kejona.crossplatforms.reloadable.Reloadable;
 import dev.kejona.crossplatforms.reloadable.ReloadableRegistry;
-import lombok.Getter;
-import lombok.experimental.Accessors;
+import lombok.AllArgsConstructor;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.EnumMap;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.Predicate;
 
 public abstract class AccessItemRegistry implements Reloadable {
 
     private final ConfigManager configManager;
     private final Permissions permissions;
 
-    @Getter
-    private final Map<String, AccessItem> items = new HashMap<>();
-
-    @Getter
-    private boolean enabled = false;
-
     /**
-     * Set the held slot to the access item when given through events
+     * The access items that are loaded and the settings they were loaded with. Replaced as a whole when loading, so
+     * that readers on other threads never see a partially loaded set of items, triggers that don't agree with the
+     * items, or settings of a different load.
      */
-    @Getter
-    @Accessors(fluent = true)
-    private boolean setHeldSlot;
-
-    @Getter
-    private Map<AccessItem.Limit, PermissionDefault> globalPermissionDefaults = Collections.emptyMap();
+    private volatile Snapshot snapshot = Snapshot.DISABLED;
 
     public AccessItemRegistry(ConfigManager configManager, Permissions permissions) {
         this.configManager = configManager;
@@ -48,36 +42,54 @@ public abstract class AccessItemRegistry implements Reloadable {
     }
 
     /**
-     * Adds access items from the Access Items config.
-     * Does not clear existing items.
+     * Loads access items from the Access Items config.
+     * Replaces existing items once loading is complete.
      */
     private void load() {
-        items.clear();
-
         if (!configManager.getConfig(AccessItemConfig.class).isPresent()) {
-            enabled = false;
+            snapshot = Snapshot.DISABLED;
             return;
         }
 
         AccessItemConfig config = configManager.getConfig(AccessItemConfig.class).get();
-        enabled = config.isEnable();
-        if (enabled) {
-            setHeldSlot = config.isSetHeldSlot();
-            globalPermissionDefaults = config.getGlobalPermissionDefaults();
+        if (!config.isEnable()) {
+            snapshot = Snapshot.DISABLED;
+            return;
+        }
 
-            Set<Permission> permissions = new HashSet<>();
+        Map<String, AccessItem> items = new HashMap<>();
+        Set<Permission> permissions = new HashSet<>();
+        for (String identifier : config.getItems().keySet()) {
+            AccessItem item = config.getItems().get(identifier);
+            items.put(identifier, item);
 
-            for (String identifier : config.getItems().keySet()) {
-                AccessItem item = config.getItems().get(identifier);
-                items.put(identifier, item);
+            // Register permissions with the server
+            item.generatePermissions(config);
+            permissions.addAll(item.getPermissions().values());
+        }
 
-                // Register permissions with the server
-                item.generatePermissions(this);
-                permissions.addAll(item.getPermissions().values());
-            }
+        this.permissions.registerPermissions(permissions);
 
-            this.permissions.registerPermissions(permissions);
+        Map<Trigger, List<AccessItem>> triggered = new EnumMap<>(Trigger.class);
+        for (Trigger trigger : Trigger.values()) {
+            List<AccessItem> given = new ArrayList<>();
+            for (AccessItem item : items.values()) {
+                if (trigger.gives.test(item)) {
+                    given.add(item);
+                }
+            }
+            triggered.put(trigger, Collections.unmodifiableList(given));
         }
+
+        snapshot = new Snapshot(
+            Collections.unmodifiableMap(items),
+            triggered,
+            true,
+            config.isSetHeldSlot(),
+            config.getRefreshInterval(),
+            config.getRefreshBudget(),
+            config.getGlobalPermissionDefaults()
+        );
     }
 
     @Override
@@ -93,8 +105,84 @@ public abstract class AccessItemRegistry implements Reloadable {
      */
     @Nullable
     public AccessItem getItem(@Nonnull String id) {
-        return items.get(id);
+        return snapshot.items.get(id);
+    }
+
+    /**
+     * @return The access items by identifier. Not backed by this registry, so the items of a later reload are not
+     * reflected.
+     */
+    @Nonnull
+    public Map<String, AccessItem> getItems() {
+        return snapshot.items;
+    }
+
+    /**
+     * @param trigger The event that access items may be given on
+     * @return The access items that should be given when the trigger occurs
+     */
+    @Nonnull
+    public List<AccessItem> getItems(@Nonnull Trigger trigger) {
+        return snapshot.triggered.getOrDefault(trigger, Collections.emptyList());
+    }
+
+    public boolean isEnabled() {
+        return snapshot.enabled;
+    }
+
+    /**
+     * @return true if the held slot should be set to the access item when given through events
+     */
+    public boolean setHeldSlot() {
+        return snapshot.setHeldSlot;
+    }
+
+    /**
+     * @return How often the access items that players hold should be updated, in milliseconds. 0 if never.
+     */
+    public long getRefreshInterval() {
+        return snapshot.refreshInterval;
+    }
+
+    /**
+     * @return The most time to spend updating access items each tick, in milliseconds
+     */
+    public long getRefreshBudget() {
+        return snapshot.refreshBudget;
+    }
+
+    @Nonnull
+    public Map<AccessItem.Limit, PermissionDefault> getGlobalPermissionDefaults() {
+        return snapshot.globalPermissionDefaults;
     }
 
     public abstract boolean giveAccessItem(FormPlayer player, AccessItem accessItem, boolean setHeldSlot);
+
+    @AllArgsConstructor
+    private static final class Snapshot {
+
+        private static final Snapshot DISABLED = new Snapshot(Collections.emptyMap(), Collections.emptyMap(), false, false, 0, 0, Collections.emptyMap());
+
+        private final Map<String, AccessItem> items;
+
+        /**
+         * The access items that should be given on each trigger
+         */
+        private final Map<Trigger, List<AccessItem>> triggered;
+
+        private final boolean enabled;
+        private final boolean setHeldSlot;
+        private final long refreshInterval;
+        private final long refreshBudget;
+        private final Map<AccessItem.Limit, PermissionDefault> globalPermissionDefaults;
+    }
+
+    @AllArgsConstructor
+    public enum Trigger {
+        JOIN(AccessItem::isOnJoin),
+        RESPAWN(AccessItem::isOnRespawn),
+        WORLD_CHANGE(AccessItem::isOnWorldChange);
+
+        private final Predicate<AccessItem> gives;
+    }
 }
@@ -24,6 +24,7 @@ import dev.kejona.crossplatforms.proxy.ProtocolizeModule;
 import net.kyori.adventure.platform.bungeecord.BungeeAudiences;
 import net.kyori.adventure.text.serializer.bungeecord.BungeeComponentSerializer;
 import net.md_5.bungee.api.CommandSender;
+import net.md_5.bungee.api.connection.ProxiedPlayer;
 import net.md_5.bungee.api.plugin.Plugin;
 import org.bstats.bungeecord.Metrics;
 import org.bstats.charts.CustomChart;
@@ -57,7 +58,7 @@ public class CrossplatFormsBungeeCord extends Plugin implements CrossplatFormsBo
         audiences = BungeeAudiences.create(this);
 
         BungeeCordHandler serverHandler = new BungeeCordHandler(this, audiences);
-        Permissions permissions = pluginPresent("LuckPerms") ? new LuckPermsHook() : Permissions.empty();
+        Permissions permissions = pluginPresent("LuckPerms") ? new LuckPermsHook(ProxiedPlayer.class, ProxiedPlayer::getUniqueId) : Permissions.empty();
 
         BungeeCommandManager<CommandOrigin> commandManager;
         try {
@@ -116,6 +117,9 @@ public class CrossplatFormsBungeeCord extends Plugin implements CrossplatFormsBo
 
     @Override
     public void onDisable() {
+        if (crossplatForms != null) {
+            crossplatForms.shutdown();
+        }
         if (audiences != null) {
             audiences.close();
         }
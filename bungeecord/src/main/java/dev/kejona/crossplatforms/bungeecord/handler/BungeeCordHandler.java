@@ -10,6 +10,7 @@ import dev.kejona.crossplatforms.command.custom.InterceptCommandCache;
 import dev.kejona.crossplatforms.handler.BedrockHandler;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.handler.ServerHandler;
+import dev.kejona.crossplatforms.session.SessionRegistry;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.platform.bungeecord.BungeeAudiences;
 import net.md_5.bungee.api.CommandSender;
@@ -17,10 +18,13 @@ import net.md_5.bungee.api.ProxyServer;
 import net.md_5.bungee.api.connection.Connection;
 import net.md_5.bungee.api.connection.ProxiedPlayer;
 import net.md_5.bungee.api.event.ChatEvent;
+import net.md_5.bungee.api.event.PlayerDisconnectEvent;
+import net.md_5.bungee.api.event.PostLoginEvent;
 import net.md_5.bungee.api.plugin.Listener;
 import net.md_5.bungee.api.plugin.Plugin;
 import net.md_5.bungee.api.plugin.PluginManager;
 import net.md_5.bungee.event.EventHandler;
+import net.md_5.bungee.event.EventPriority;
 import org.jetbrains.annotations.Nullable;
 
 import javax.annotation.Nonnull;
@@ -138,10 +142,11 @@ public class BungeeCordHandler extends InterceptCommandCache implements ServerHa
             return;
         }
 
-        String input = event.getMessage().substring(1);
-        Logger.get().debug("preprocess command: [" + event.getMessage() + "] -> [" + input + "]");
-        // attempt to find an exact match
-        InterceptCommand command = findCommand(input);
+        Logger logger = Logger.get();
+        if (logger.isDebug()) {
+            logger.debug("preprocess command: [" + event.getMessage() + "]");
+        }
+        InterceptCommand command = findCommand(event.getMessage(), 1); // skip the command slash
         if (command != null) {
             ProxiedPlayer player = (ProxiedPlayer) connection;
             BedrockHandler bedrockHandler = CrossplatForms.getInstance().getBedrockHandler();
@@ -157,4 +162,14 @@ public class BungeeCordHandler extends InterceptCommandCache implements ServerHa
             }
         }
     }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPostLogin(PostLoginEvent event) {
+        SessionRegistry.join(new BungeeCordPlayer(event.getPlayer()));
+    }
+
+    @EventHandler
+    public void onPlayerDisconnect(PlayerDisconnectEvent event) {
+        SessionRegistry.quit(event.getPlayer().getUniqueId());
+    }
 }
@@ -22,16 +22,22 @@ import dev.kejona.crossplatforms.handler.BedrockHandler;
 import dev.kejona.crossplatforms.handler.FloodgateHandler;
 import dev.kejona.crossplatforms.handler.GeyserHandler;
 import dev.kejona.crossplatforms.handler.Placeholders;
+import dev.kejona.crossplatforms.handler.PlayerIndex;
 import dev.kejona.crossplatforms.handler.ServerHandler;
 import dev.kejona.crossplatforms.interfacing.Interfacer;
 import dev.kejona.crossplatforms.interfacing.bedrock.BedrockForm;
 import dev.kejona.crossplatforms.interfacing.bedrock.BedrockFormRegistry;
 import dev.kejona.crossplatforms.interfacing.bedrock.BedrockFormSerializer;
+import dev.kejona.crossplatforms.interfacing.bedrock.PendingFormRegistry;
+import dev.kejona.crossplatforms.interfacing.bedrock.ResponseDispatcher;
 import dev.kejona.crossplatforms.interfacing.bedrock.custom.ComponentSerializer;
 import dev.kejona.crossplatforms.interfacing.bedrock.custom.CustomComponent;
 import dev.kejona.crossplatforms.interfacing.java.JavaMenuRegistry;
+import dev.kejona.crossplatforms.interfacing.java.MenuRefresher;
+import dev.kejona.crossplatforms.permission.PermissionCache;
 import dev.kejona.crossplatforms.permission.Permissions;
 import dev.kejona.crossplatforms.reloadable.ReloadableRegistry;
+import dev.kejona.crossplatforms.session.SessionRegistry;
 import lombok.Getter;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import net.kyori.adventure.text.serializer.plain.PlainTextComponentSerializer;
@@ -48,14 +54,22 @@ public class CrossplatForms {
     public static final PlainTextComponentSerializer PLAIN_SERIALIZER = PlainTextComponentSerializer.plainText();
     public static final LegacyComponentSerializer LEGACY_SERIALIZER = LegacyComponentSerializer.legacySection();
 
+    private static final String SKIN_CACHE_FILE = "skin-cache.json";
+
     private final ConfigManager configManager;
     private final ServerHandler serverHandler;
     private final Permissions permissions;
+    private final PermissionCache permissionCache;
     private final BedrockHandler bedrockHandler;
 
     private final boolean bedrockSupport;
 
     private final Interfacer interfacer;
+    private final PendingFormRegistry pendingForms;
+    private final ResponseDispatcher responseDispatcher;
+    private final MenuRefresher menuRefresher;
+    private final PlayerIndex playerIndex;
+    private final SkinCache skinCache;
 
     private final CommandManager<CommandOrigin> commandManager;
     private final Command.Builder<CommandOrigin> commandBuilder;
@@ -81,6 +95,15 @@ public class CrossplatForms {
         this.commandManager = commandManager;
         this.placeholders = placeholders;
         ReloadableRegistry.clear();
+        SessionRegistry.clear();
+        playerIndex = new PlayerIndex(serverHandler.getPlayers());
+        SessionRegistry.register(playerIndex);
+        skinCache = new SkinCache(serverHandler::executeAsync, dataFolder.resolve(SKIN_CACHE_FILE));
+        skinCache.load();
+        SessionRegistry.register(skinCache);
+        permissionCache = new PermissionCache(permissions);
+        ReloadableRegistry.register(permissionCache);
+        SessionRegistry.register(permissionCache);
         logger.info("Version: " + Constants.version() + ", Branch: " + Constants.branch() + ", Build: " + Constants.buildNumber() + ", Commit: " + Constants.commit());
 
         // Decide on which implementation to deal with bedrock players
@@ -108,9 +131,18 @@ public class CrossplatForms {
         }
 
         interfacer = new Interfacer();
+        pendingForms = new PendingFormRegistry();
+        if (serverHandler.defersSafeExecution()) {
+            responseDispatcher = new ResponseDispatcher(serverHandler::executeSafely);
+        } else {
+            responseDispatcher = ResponseDispatcher.direct(); // there is no thread to hand off to
+        }
+        menuRefresher = new MenuRefresher(serverHandler);
+        ReloadableRegistry.register(menuRefresher);
+        SessionRegistry.register(menuRefresher);
 
         List<Module> modules = bootstrap.configModules();
-        modules.add(new ConfigurationModule(interfacer, bedrockHandler, serverHandler, placeholders));
+        modules.add(new ConfigurationModule(interfacer, pendingForms, responseDispatcher, menuRefresher, playerIndex, permissionCache, skinCache, bedrockHandler, serverHandler, placeholders));
         Injector injector = Guice.createInjector(modules);
 
         // Register configs and serializers
@@ -132,6 +164,7 @@ public class CrossplatForms {
             logger.severe("A severe configuration error occurred, which will lead to significant parts of this plugin not loading. Please repair the config and run /forms reload or restart the server.");
         }
         logger.debug("Took " + (System.currentTimeMillis() - configTime) + "ms to load config files.");
+        pendingForms.load(configManager);
 
         // Load forms and menus from the configs into registries
         interfacer.load(
@@ -191,6 +224,14 @@ public class CrossplatForms {
         logger.info("Took " + (System.currentTimeMillis() - start) + "ms to boot CrossplatForms.");
     }
 
+    /**
+     * Stops background tasks and saves any state that should persist across restarts. Should be called by the
+     * implementation when it is disabled.
+     */
+    public void shutdown() {
+        menuRefresher.shutdown();
+        skinCache.save();
+    }
 
     public static CrossplatForms getInstance() {
         return INSTANCE;
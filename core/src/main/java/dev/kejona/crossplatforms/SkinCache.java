@@ -2,32 +2,244 @@ package dev.kejona.crossplatforms;
 
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.gson.Gson;
+import com.google.gson.reflect.TypeToken;
 import dev.kejona.crossplatforms.handler.FormPlayer;
+import dev.kejona.crossplatforms.session.SessionListener;
 import dev.kejona.crossplatforms.utils.SkinUtils;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
-public class SkinCache {
+/**
+ * Caches the avatar URLs of players. Avatars are computed off of the main thread when a player joins, and the
+ * texture ID of each player is saved to a file so that their avatar is available as soon as they join again after a
+ * restart. Saved texture IDs are revalidated against the player's current skin whenever they join.
+ */
+public class SkinCache implements SessionListener {
 
     // See https://mc-heads.net/
     private static final String AVATAR_ENDPOINT = "https://mc-heads.net/avatar/";
     // See https://mc-heads.net/minecraft/mhf
     private static final String STEVE = "MHF_Steve";
 
+    /**
+     * The maximum amount of avatar URLs to hold, one per player
+     */
+    private static final int MAXIMUM_AVATARS = 5000;
+
+    /**
+     * The maximum amount of texture IDs to hold and save, one per player
+     */
+    private static final int MAXIMUM_TEXTURES = 10000;
+
+    private static final Gson GSON = new Gson();
+    private static final Type TEXTURES_TYPE = new TypeToken<Map<String, String>>() {}.getType();
+
     private static final Logger LOGGER = Logger.get();
 
     private final Cache<UUID, String> avatars = CacheBuilder.newBuilder()
-        .expireAfterWrite(5, TimeUnit.MINUTES)
+        .maximumSize(MAXIMUM_AVATARS)
+        .expireAfterAccess(30, TimeUnit.MINUTES)
+        .recordStats()
         .build();
 
+    /**
+     * Texture IDs by player UUID, least recently used first. Access must be synchronized on the map.
+     */
+    private final Map<UUID, String> textures = new LinkedHashMap<UUID, String>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<UUID, String> eldest) {
+            return size() > MAXIMUM_TEXTURES;
+        }
+    };
+
+    /**
+     * Avatars that were available from a known texture ID, without decoding the player's skin
+     */
+    private final LongAdder textureHits = new LongAdder();
+
+    /**
+     * Avatars that could only be made available by decoding the player's skin
+     */
+    private final LongAdder textureMisses = new LongAdder();
+
+    /**
+     * A token for the current session of each online player, so that skins decoded asynchronously are only cached if
+     * the player is still in the same session
+     */
+    private final Map<UUID, Object> sessions = new ConcurrentHashMap<>();
+
+    private final Executor async;
+
+    @Nullable
+    private final Path file;
+
+    private volatile boolean dirty = false;
+
+    /**
+     * @param async Executes runnables off of the server thread, to decode skins with,
+     *              e.g. {@link dev.kejona.crossplatforms.handler.ServerHandler#executeAsync(Runnable)}
+     * @param file The file to load and save texture IDs to, or null to not persist them
+     */
+    public SkinCache(@Nonnull Executor async, @Nullable Path file) {
+        this.async = async;
+        this.file = file;
+    }
+
+    /**
+     * Loads the texture IDs saved by {@link #save()}, if any.
+     */
+    public void load() {
+        if (file == null || !Files.exists(file)) {
+            return;
+        }
+
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            Map<String, String> saved = GSON.fromJson(reader, TEXTURES_TYPE);
+            if (saved == null) {
+                return;
+            }
+            int loaded = 0;
+            synchronized (textures) {
+                for (Map.Entry<String, String> entry : saved.entrySet()) {
+                    try {
+                        textures.put(UUID.fromString(entry.getKey()), entry.getValue());
+                        loaded++;
+                    } catch (IllegalArgumentException e) {
+                        dirty = true; // an entry of an older format, which is dropped on the next save
+                    }
+                }
+            }
+            LOGGER.debug("Loaded " + loaded + " texture IDs from " + file.getFileName());
+        } catch (Exception e) {
+            LOGGER.warn("Failed to load cached skins from " + file + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Saves the texture IDs, if any have changed since they were last loaded or saved.
+     */
+    public void save() {
+        if (file == null || !dirty) {
+            return;
+        }
+
+        Map<String, String> copy = new LinkedHashMap<>();
+        synchronized (textures) {
+            for (Map.Entry<UUID, String> entry : textures.entrySet()) {
+                copy.put(entry.getKey().toString(), entry.getValue());
+            }
+            dirty = false;
+        }
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            GSON.toJson(copy, TEXTURES_TYPE, writer);
+        } catch (IOException e) {
+            LOGGER.warn("Failed to save cached skins to " + file + ": " + e.getMessage());
+        }
+
+        if (LOGGER.isDebug()) {
+            LOGGER.debug("Saved " + copy.size() + " texture IDs. Avatar cache stats: " + getStats());
+        }
+    }
+
+    /**
+     * @return the hit and miss statistics of avatar lookups
+     */
+    @Nonnull
+    public CacheStats getStats() {
+        return avatars.stats();
+    }
+
+    /**
+     * @return the amount of avatars that were available from a known texture ID, without decoding the player's skin
+     */
+    public long getTextureHits() {
+        return textureHits.sum();
+    }
+
+    /**
+     * @return the amount of avatars that could only be made available by decoding the player's skin
+     */
+    public long getTextureMisses() {
+        return textureMisses.sum();
+    }
+
+    /**
+     * @return the amount of texture IDs held, which are saved across restarts
+     */
+    public int getTextureCount() {
+        synchronized (textures) {
+            return textures.size();
+        }
+    }
+
+    /**
+     * Makes the avatar of the player available from their known texture ID if there is one, and then revalidates it
+     * against their current skin asynchronously.
+     */
+    @Override
+    public void onJoin(@Nonnull FormPlayer player) {
+        UUID uuid = player.getUuid();
+        Object session = new Object();
+        sessions.put(uuid, session);
+
+        String known = knownTexture(uuid);
+        if (known == null) {
+            textureMisses.increment();
+        } else {
+            textureHits.increment();
+            avatars.put(uuid, AVATAR_ENDPOINT + known);
+        }
+
+        // the skin is read on this thread, since reading it may not be safe elsewhere
+        String encodedData = player.getEncodedSkinData();
+        async.execute(() -> {
+            String avatar = refresh(uuid, encodedData);
+            if (sessions.get(uuid) == session) {
+                avatars.put(uuid, avatar);
+                if (sessions.get(uuid) != session) {
+                    avatars.invalidate(uuid); // quit while the avatar was being put
+                }
+            }
+        });
+    }
+
+    @Override
+    public void onQuit(@Nonnull UUID uuid) {
+        sessions.remove(uuid);
+        avatars.invalidate(uuid);
+    }
+
     @Nullable
     public String getAvatarUrl(FormPlayer player) {
         UUID uuid = player.getUuid();
         try {
-            return avatars.get(uuid, () -> getAvatarUrl(uuid, player.getEncodedSkinData()));
+            return avatars.get(uuid, () -> {
+                String known = knownTexture(uuid);
+                if (known == null) {
+                    textureMisses.increment();
+                    return refresh(uuid, player.getEncodedSkinData());
+                }
+                textureHits.increment();
+                return AVATAR_ENDPOINT + known;
+            });
         } catch (Throwable e) {
             LOGGER.warn("Exception while computing avatar url of " + player.getName());
             e.printStackTrace();
@@ -35,23 +247,48 @@ public class SkinCache {
         }
     }
 
+    @Nullable
+    private String knownTexture(UUID uuid) {
+        synchronized (textures) {
+            return textures.get(uuid);
+        }
+    }
+
+    /**
+     * Decodes the texture ID of a player's current skin, and remembers it for the player.
+     * @return the avatar url of the player
+     */
     @Nonnull
-    public static String getAvatarUrl(UUID uuid, @Nullable String encodedData) {
-        if (encodedData == null) {
-            return AVATAR_ENDPOINT + STEVE;
+    private String refresh(UUID uuid, @Nullable String encodedData) {
+        String id = encodedData == null ? null : textureId(uuid, encodedData);
+        synchronized (textures) {
+            String previous = id == null ? textures.remove(uuid) : textures.put(uuid, id);
+            if (!Objects.equals(previous, id)) {
+                dirty = true;
+            }
         }
+        return AVATAR_ENDPOINT + (id == null ? STEVE : id);
+    }
+
+    @Nonnull
+    public static String getAvatarUrl(UUID uuid, @Nullable String encodedData) {
         // todo: calculate default skin if no encoded data or failed to read
+        String id = encodedData == null ? null : textureId(uuid, encodedData);
+        return AVATAR_ENDPOINT + (id == null ? STEVE : id);
+    }
 
+    @Nullable
+    private static String textureId(UUID uuid, @Nonnull String encodedData) {
         try {
-            String avatarUrl = AVATAR_ENDPOINT + SkinUtils.idFromEncoding(encodedData);
-            LOGGER.debug("Avatar URL for " + uuid + ": " + avatarUrl);
-            return avatarUrl;
+            String id = SkinUtils.idFromEncoding(encodedData);
+            LOGGER.debug("Texture ID for " + uuid + ": " + id);
+            return id;
         } catch (Exception e) {
             if (LOGGER.isDebug()) {
                 LOGGER.debug("Failed to get avatar url for " + uuid);
                 e.printStackTrace();
             }
-            return AVATAR_ENDPOINT + STEVE;
+            return null;
         }
     }
 }
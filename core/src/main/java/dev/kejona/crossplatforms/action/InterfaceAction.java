@@ -7,6 +7,7 @@ import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.interfacing.ArgumentException;
 import dev.kejona.crossplatforms.interfacing.Interface;
 import dev.kejona.crossplatforms.interfacing.Interfacer;
+import dev.kejona.crossplatforms.permission.PermissionCache;
 import dev.kejona.crossplatforms.resolver.Resolver;
 import dev.kejona.crossplatforms.serialize.TypeResolver;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
@@ -31,11 +32,13 @@ public class InterfaceAction implements GenericAction {
 
     private final transient BedrockHandler bedrockHandler;
     private final transient Interfacer interfacer;
+    private final transient PermissionCache permissionCache;
 
     @Inject
-    public InterfaceAction(BedrockHandler bedrockHandler, Interfacer interfacer) {
+    public InterfaceAction(BedrockHandler bedrockHandler, Interfacer interfacer, PermissionCache permissionCache) {
         this.bedrockHandler = bedrockHandler;
         this.interfacer = interfacer;
+        this.permissionCache = permissionCache;
     }
 
     @Override
@@ -48,7 +51,7 @@ public class InterfaceAction implements GenericAction {
         }
 
         String permission = ui.permission(Interface.Limit.USE);
-        if (!player.hasPermission(permission)) {
+        if (!permissionCache.hasPermission(player, permission)) {
             LOGGER.severe("Attempted to make a player open a form or menu '" + form + "', but they do not have the following permission: " + permission);
             player.warn("You don't have permission to open: " + form);
             return;
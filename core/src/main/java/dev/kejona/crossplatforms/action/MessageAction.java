@@ -3,6 +3,7 @@ package dev.kejona.crossplatforms.action;
 import com.google.inject.Inject;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
 import dev.kejona.crossplatforms.serialize.TypeResolver;
 import dev.kejona.crossplatforms.utils.ConfigurateUtils;
 import net.kyori.adventure.text.Component;
@@ -29,6 +30,9 @@ public class MessageAction implements GenericAction {
     private String message = null;
     private List<String> messages = null;
 
+    private transient Template messageTemplate;
+    private transient List<Template> messageTemplates;
+
     @Inject
     private MessageAction() {
 
@@ -37,11 +41,11 @@ public class MessageAction implements GenericAction {
     @Override
     public void affectPlayer(@NotNull FormPlayer player, @NotNull Resolver resolver) {
         if (message != null) {
-            player.sendRaw(deserializer.apply(resolver.apply(message)));
+            player.sendRaw(deserializer.apply(resolver.apply(messageTemplate)));
         }
         if (messages != null) {
-            messages.stream()
-                .map(resolver)
+            messageTemplates.stream()
+                .map(resolver::apply)
                 .map(deserializer)
                 .forEachOrdered(player::sendRaw);
         }
@@ -59,6 +63,9 @@ public class MessageAction implements GenericAction {
             throw new SerializationException("'messages' is not present.");
         }
 
+        messageTemplate = Template.compile(message);
+        messageTemplates = Template.compile(messages);
+
         if (format == Format.LEGACY) {
             final LegacyComponentSerializer serializer = LegacyComponentSerializer.builder()
                     .character(character)
@@ -0,0 +1,206 @@
+package dev.kejona.crossplatforms.command.custom;
+
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+
+/**
+ * Finds the command that some input matches, where each command matches either an exact string or a pattern. Exact
+ * commands are preferred, and otherwise the first matching pattern is used.
+ * <p>
+ * Commands are indexed by the first word that they can match, so input is only tested against the commands that
+ * may match its first word and the patterns whose first word is unknown. Lookups don't allocate besides the matchers
+ * of candidate patterns.
+ */
+final class CommandMatcher<T> {
+
+    private static final String METACHARACTERS = "\\^$.|?*+()[]{}";
+    private static final String QUANTIFIERS = "?*+{";
+
+    /**
+     * Hash table of buckets by first word, using linear probing. Always has empty slots.
+     */
+    private final Bucket<T>[] table;
+    private final int mask;
+
+    /**
+     * Patterns whose first word is unknown, in order
+     */
+    private final List<Candidate<T>> unindexed;
+
+    /**
+     * @param commands The commands in the order they were registered
+     * @param exact Gets the exact string of a command, or null if it has a pattern
+     * @param pattern Gets the pattern of a command that doesn't have an exact string
+     */
+    @SuppressWarnings("unchecked")
+    CommandMatcher(List<T> commands, Function<T, String> exact, Function<T, Pattern> pattern) {
+        // the last command registered for an exact string replaces earlier ones
+        Map<String, Candidate<T>> exacts = new LinkedHashMap<>();
+        List<Candidate<T>> patterns = new ArrayList<>();
+        for (T command : commands) {
+            String string = exact.apply(command);
+            if (string == null) {
+                Pattern regex = pattern.apply(command);
+                patterns.add(new Candidate<>(command, null, regex, firstWord(regex)));
+            } else {
+                exacts.put(string, new Candidate<>(command, string, null, firstWord(string)));
+            }
+        }
+
+        List<Candidate<T>> unindexed = new ArrayList<>();
+        Map<String, List<Candidate<T>>> buckets = new LinkedHashMap<>();
+        for (Candidate<T> candidate : exacts.values()) {
+            buckets.computeIfAbsent(candidate.word, w -> new ArrayList<>()).add(candidate);
+        }
+        for (Candidate<T> candidate : patterns) {
+            if (candidate.word == null) {
+                unindexed.add(candidate);
+            } else {
+                buckets.computeIfAbsent(candidate.word, w -> new ArrayList<>());
+            }
+        }
+        // patterns are tried after exact strings, in order
+        for (Map.Entry<String, List<Candidate<T>>> bucket : buckets.entrySet()) {
+            for (Candidate<T> candidate : patterns) {
+                if (candidate.word == null || candidate.word.equals(bucket.getKey())) {
+                    bucket.getValue().add(candidate);
+                }
+            }
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(buckets.size(), 1) * 2) * 2;
+        table = new Bucket[capacity];
+        mask = capacity - 1;
+        for (Map.Entry<String, List<Candidate<T>>> bucket : buckets.entrySet()) {
+            String word = bucket.getKey();
+            int i = word.hashCode() & mask;
+            while (table[i] != null) {
+                i = (i + 1) & mask;
+            }
+            table[i] = new Bucket<>(word, bucket.getValue());
+        }
+        this.unindexed = unindexed;
+    }
+
+    /**
+     * @param input The input to match, such as a command line
+     * @param start The index of the input to match from, for example to skip a slash
+     * @return The matching command, or null if there is none
+     */
+    @Nullable
+    T find(String input, int start) {
+        int end = input.indexOf(' ', start);
+        if (end < 0) {
+            end = input.length();
+        }
+
+        for (Candidate<T> candidate : candidates(input, start, end)) {
+            if (candidate.matches(input, start)) {
+                return candidate.command;
+            }
+        }
+        return null;
+    }
+
+    private List<Candidate<T>> candidates(String input, int start, int end) {
+        int length = end - start;
+        int hash = 0;
+        for (int i = start; i < end; i++) {
+            hash = 31 * hash + input.charAt(i); // same as String#hashCode
+        }
+
+        for (int i = hash & mask; ; i = (i + 1) & mask) {
+            Bucket<T> bucket = table[i];
+            if (bucket == null) {
+                return unindexed;
+            }
+            if (bucket.word.length() == length && input.regionMatches(start, bucket.word, 0, length)) {
+                return bucket.candidates;
+            }
+        }
+    }
+
+    /**
+     * @return the first word of an exact string
+     */
+    static String firstWord(String exact) {
+        int space = exact.indexOf(' ');
+        return space < 0 ? exact : exact.substring(0, space);
+    }
+
+    /**
+     * @return the first word that anything matching the pattern must start with, or null if it can't be determined
+     */
+    @Nullable
+    static String firstWord(Pattern pattern) {
+        if (pattern.flags() != 0) {
+            return null; // such as case insensitivity
+        }
+
+        String regex = pattern.pattern();
+        if (regex.indexOf('|') >= 0) {
+            return null; // an alternative may start with another word, even after the first space
+        }
+
+        int i = regex.startsWith("^") ? 1 : 0;
+        int wordStart = i;
+        for (; i < regex.length(); i++) {
+            char c = regex.charAt(i);
+            if (c == ' ') {
+                if (i + 1 < regex.length() && QUANTIFIERS.indexOf(regex.charAt(i + 1)) >= 0) {
+                    return null; // the space is optional or repeated
+                }
+                break;
+            }
+            if (METACHARACTERS.indexOf(c) >= 0) {
+                return null;
+            }
+        }
+
+        return i == wordStart ? null : regex.substring(wordStart, i);
+    }
+
+    private static final class Bucket<T> {
+
+        private final String word;
+        private final List<Candidate<T>> candidates;
+
+        private Bucket(String word, List<Candidate<T>> candidates) {
+            this.word = word;
+            this.candidates = Collections.unmodifiableList(candidates);
+        }
+    }
+
+    private static final class Candidate<T> {
+
+        private final T command;
+        @Nullable
+        private final String exact;
+        @Nullable
+        private final Pattern pattern;
+        @Nullable
+        private final String word;
+
+        private Candidate(T command, @Nullable String exact, @Nullable Pattern pattern, @Nullable String word) {
+            this.command = command;
+            this.exact = exact;
+            this.pattern = pattern;
+            this.word = word;
+        }
+
+        private boolean matches(String input, int start) {
+            if (exact != null) {
+                return exact.length() == input.length() - start && input.regionMatches(start, exact, 0, exact.length());
+            }
+            // anchoring bounds are used by default, so this is the same as matching the substring
+            return pattern.matcher(input).region(start, input.length()).matches();
+        }
+    }
+}
@@ -17,6 +17,7 @@ import dev.kejona.crossplatforms.reloadable.ReloadableRegistry;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -31,7 +32,11 @@ public class CustomCommandManager implements Reloadable {
     private final BedrockHandler bedrockHandler;
     private final Logger logger;
 
-    private final Map<Literals, RegisteredCommand> registeredCommands = new HashMap<>();
+    /**
+     * The latest definition of every command registered. Replaced as a whole when loading, since it is read on command
+     * threads.
+     */
+    private volatile Map<Literals, RegisteredCommand> registeredCommands = Collections.emptyMap();
 
     public CustomCommandManager(CrossplatForms forms, CommandManager<CommandOrigin> commandManager) {
         this.configManager = forms.getConfigManager();
@@ -45,14 +50,17 @@ public class CustomCommandManager implements Reloadable {
     }
 
     private void load() {
-        serverHandler.clearInterceptCommands();
         if (!configManager.getConfig(GeneralConfig.class).isPresent()) {
+            serverHandler.setInterceptCommands(Collections.emptyList());
             return;
         }
         GeneralConfig config = configManager.getConfig(GeneralConfig.class).get();
         commandManager.setSetting(CommandManager.ManagerSettings.ALLOW_UNSAFE_REGISTRATION, config.isUnsafeCommandRegistration());
 
+        // old commands are kept since they can't be unregistered from cloud
+        Map<Literals, RegisteredCommand> registered = new HashMap<>(registeredCommands);
         List<Literals> currentCommands = new ArrayList<>();
+        List<InterceptCommand> intercepts = new ArrayList<>();
         for (CustomCommand command : config.getCommands().values()) {
             if (command == null) {
                 continue;
@@ -61,15 +69,15 @@ public class CustomCommandManager implements Reloadable {
             CommandType type = command.getMethod();
             if (type == CommandType.REGISTER) {
                 if (command instanceof RegisteredCommand) {
-                    RegisteredCommand registered = (RegisteredCommand) command;
-                    registerCommand(registered);
-                    currentCommands.add(registered.literals());
+                    RegisteredCommand registeredCommand = (RegisteredCommand) command;
+                    registerCommand(registered, registeredCommand);
+                    currentCommands.add(registeredCommand.literals());
                 } else {
                     throw new IllegalStateException("CustomCommand has method type REGISTER but is not a RegisteredCommand: " + command);
                 }
             } else if (type == CommandType.INTERCEPT_CANCEL || type == CommandType.INTERCEPT_PASS) {
                 if (command instanceof InterceptCommand) {
-                    interceptCommand((InterceptCommand) command);
+                    interceptCommand(intercepts, (InterceptCommand) command);
                 } else {
                     throw new IllegalStateException("CustomCommand has method type INTERCEPT_CANCEL or INTERCEPT_PASS but is not a ProxiedCommand: " + command);
                 }
@@ -78,15 +86,18 @@ public class CustomCommandManager implements Reloadable {
             }
         }
 
-        for (Map.Entry<Literals, RegisteredCommand> entry : registeredCommands.entrySet()) {
+        for (Map.Entry<Literals, RegisteredCommand> entry : registered.entrySet()) {
             // enable commands that are current
             // disable commands that are no longer current
             // cannot remove old commands from the map because a double reload could result in cloud raising exceptions due to duplicate nodes/arguments
             entry.getValue().enable(currentCommands.contains(entry.getKey()));
         }
+
+        registeredCommands = Collections.unmodifiableMap(registered);
+        serverHandler.setInterceptCommands(intercepts);
     }
 
-    private void registerCommand(RegisteredCommand command) {
+    private void registerCommand(Map<Literals, RegisteredCommand> registered, RegisteredCommand command) {
         Objects.requireNonNull(command);
         final String name = command.getIdentifier();
         final Literals literals = command.literals();
@@ -102,7 +113,7 @@ public class CustomCommandManager implements Reloadable {
             return;
         }
 
-        if (!registeredCommands.containsKey(literals)) {
+        if (!registered.containsKey(literals)) {
             if (commandManager.isCommandRegistrationAllowed()) {
 
                 Command.Builder<CommandOrigin> builder = commandManager.commandBuilder(array[0]);
@@ -116,7 +127,7 @@ public class CustomCommandManager implements Reloadable {
                         .permission(origin -> hasPermission(origin, literals))
                         .handler((context) -> executeCommand(context.getSender(), literals))
                     );
-                    registeredCommands.put(literals, command); // set definition
+                    registered.put(literals, command); // set definition
                 } catch (Exception e) {
                     logger.warn("Failed to register custom command '" + name + "', likely because it already exists: " + Arrays.toString(array));
                     logger.warn(e.getMessage());
@@ -131,7 +142,7 @@ public class CustomCommandManager implements Reloadable {
             }
         } else {
             // already setup, just update the definition.
-            registeredCommands.put(literals, command);
+            registered.put(literals, command);
         }
     }
 
@@ -150,11 +161,11 @@ public class CustomCommandManager implements Reloadable {
         }
     }
 
-    private void interceptCommand(InterceptCommand command) {
+    private void interceptCommand(List<InterceptCommand> intercepts, InterceptCommand command) {
         if (command.getPattern() == null && command.getExact() == null) {
             logger.severe("CustomCommand of method INTERCEPT_CANCEL or INTERCEPT_PASS defines both 'exact' and 'pattern': " + command + ". Not registering, as only one must be specified.");
         } else {
-            serverHandler.registerInterceptCommand(command);
+            intercepts.add(command);
         }
     }
 
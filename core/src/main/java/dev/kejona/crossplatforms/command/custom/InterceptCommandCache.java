@@ -4,9 +4,8 @@ import dev.kejona.crossplatforms.handler.ServerHandler;
 import org.checkerframework.checker.nullness.qual.Nullable;
 
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Objects;
 
 /**
@@ -14,39 +13,68 @@ import java.util.Objects;
  */
 public abstract class InterceptCommandCache implements ServerHandler {
 
-    private final Map<String, InterceptCommand> exactCommands = new HashMap<>();
-    private final List<InterceptCommand> patternCommands = new ArrayList<>();
+    /**
+     * Never modified, only replaced
+     */
+    private List<InterceptCommand> commands = Collections.emptyList();
+
+    /**
+     * Compiled from {@link #commands} whenever they change, since commands are looked up far more often
+     */
+    private volatile CommandMatcher<InterceptCommand> matcher = compile(Collections.emptyList());
 
     @Override
-    public void registerInterceptCommand(InterceptCommand proxyCommand) {
-        String exact = proxyCommand.getExact();
-        if (exact != null) {
-            exactCommands.put(proxyCommand.getExact(), proxyCommand);
-        } else {
-            Objects.requireNonNull(proxyCommand.getPattern());
-            patternCommands.add(proxyCommand);
-        }
+    public synchronized void registerInterceptCommand(InterceptCommand proxyCommand) {
+        List<InterceptCommand> commands = new ArrayList<>(this.commands);
+        commands.add(validate(proxyCommand));
+        publish(commands);
+    }
+
+    @Override
+    public synchronized void clearInterceptCommands() {
+        publish(Collections.emptyList());
     }
 
+    /**
+     * Replaces the commands at once, so that commands are never missing from lookups on other threads
+     */
     @Override
-    public void clearInterceptCommands() {
-        exactCommands.clear();
-        patternCommands.clear();
+    public synchronized void setInterceptCommands(List<InterceptCommand> proxyCommands) {
+        List<InterceptCommand> commands = new ArrayList<>(proxyCommands.size());
+        for (InterceptCommand command : proxyCommands) {
+            commands.add(validate(command));
+        }
+        publish(commands);
     }
 
     @Nullable
     public InterceptCommand findCommand(String input) {
-        // attempt to find an exact match
-        InterceptCommand command = exactCommands.get(input);
-        if (command == null) {
-            // no command found for this exact string, try finding something that matches
-            for (InterceptCommand patternCommand : patternCommands) {
-                if (Objects.requireNonNull(patternCommand.getPattern()).matcher(input).matches()) {
-                    command = patternCommand;
-                    break;
-                }
-            }
+        return findCommand(input, 0);
+    }
+
+    /**
+     * @param input The input to find a command for
+     * @param start The index to read the input from, for example 1 to skip the slash of a command line
+     * @return The command that the input matches, or null if there is none
+     */
+    @Nullable
+    public InterceptCommand findCommand(String input, int start) {
+        return matcher.find(input, start);
+    }
+
+    private void publish(List<InterceptCommand> commands) {
+        this.commands = Collections.unmodifiableList(commands);
+        this.matcher = compile(this.commands);
+    }
+
+    private static InterceptCommand validate(InterceptCommand command) {
+        if (command.getExact() == null) {
+            Objects.requireNonNull(command.getPattern());
         }
         return command;
     }
+
+    private static CommandMatcher<InterceptCommand> compile(List<InterceptCommand> commands) {
+        return new CommandMatcher<>(commands, InterceptCommand::getExact, InterceptCommand::getPattern);
+    }
 }
@@ -22,6 +22,8 @@ public final class DefaultCommands {
                 new OpenCommand(instance),
                 new InspectCommand(instance),
                 new IdentifyCommand(instance),
+                new PendingCommand(instance),
+                new SkinsCommand(instance),
                 new VersionCommand(instance),
                 new ReloadCommand(instance)
         );
@@ -10,6 +10,7 @@ import dev.kejona.crossplatforms.interfacing.Interface;
 import dev.kejona.crossplatforms.interfacing.bedrock.BedrockFormRegistry;
 import dev.kejona.crossplatforms.interfacing.java.JavaMenu;
 import dev.kejona.crossplatforms.interfacing.java.JavaMenuRegistry;
+import dev.kejona.crossplatforms.permission.PermissionCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -29,6 +30,7 @@ public class ListCommand extends FormsCommand {
         BedrockHandler bedrockHandler = crossplatForms.getBedrockHandler();
         BedrockFormRegistry bedrockRegistry = crossplatForms.getInterfacer().getBedrockRegistry();
         JavaMenuRegistry javaRegistry = crossplatForms.getInterfacer().getJavaRegistry();
+        PermissionCache permissionCache = crossplatForms.getPermissionCache();
 
         manager.command(defaultBuilder.literal(NAME)
                 .permission(PERMISSION)
@@ -52,7 +54,7 @@ public class ListCommand extends FormsCommand {
                     }
 
                     List<String> names = interfaces.stream()
-                            .filter(ui -> origin.hasPermission(ui.permission(Interface.Limit.COMMAND)))
+                            .filter(ui -> permissionCache.hasPermission(origin, ui.permission(Interface.Limit.COMMAND)))
                             .map(Interface::getIdentifier)
                             .distinct() // Remove duplicates - forms and menus with the same identifier
                             .collect(Collectors.toList());
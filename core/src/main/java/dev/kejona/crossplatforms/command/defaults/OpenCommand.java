@@ -17,6 +17,7 @@ import dev.kejona.crossplatforms.interfacing.Interface;
 import dev.kejona.crossplatforms.interfacing.Interfacer;
 import dev.kejona.crossplatforms.interfacing.java.JavaMenuRegistry;
 import dev.kejona.crossplatforms.parser.BlockPlaceholderParser;
+import dev.kejona.crossplatforms.permission.PermissionCache;
 
 import javax.annotation.Nullable;
 import java.util.Collections;
@@ -40,6 +41,7 @@ public class OpenCommand extends FormsCommand {
     private final BedrockHandler bedrockHandler;
     private final Interfacer interfacer;
     private final JavaMenuRegistry javaRegistry;
+    private final PermissionCache permissionCache;
 
     private final String openCommand;
     private final String sendCommand;
@@ -51,6 +53,7 @@ public class OpenCommand extends FormsCommand {
         this.bedrockHandler = crossplatForms.getBedrockHandler();
         this.interfacer = crossplatForms.getInterfacer();
         this.javaRegistry = crossplatForms.getInterfacer().getJavaRegistry();
+        this.permissionCache = crossplatForms.getPermissionCache();
 
         String root = crossplatForms.getRootCommand();
         openCommand = join(root, OPEN_NAME);
@@ -78,8 +81,8 @@ public class OpenCommand extends FormsCommand {
                         origin.warn("'" + identifier + "' doesn't exist.");
                         return;
                     }
-                    if (origin.hasPermission(ui.permission(Interface.Limit.COMMAND))) {
-                        if (origin.hasPermission(ui.permission(Interface.Limit.USE))) {
+                    if (permissionCache.hasPermission(origin, ui.permission(Interface.Limit.COMMAND))) {
+                        if (permissionCache.hasPermission(origin, ui.permission(Interface.Limit.USE))) {
                             FormPlayer player = Objects.requireNonNull(serverHandler.getPlayer(uuid));
                             send(openCommand, context, ui, player);
                         } else {
@@ -118,8 +121,8 @@ public class OpenCommand extends FormsCommand {
                         origin.warn("'" + identifier + "' doesn't exist.");
                         return;
                     }
-                    if (origin.hasPermission(ui.permission(Interface.Limit.COMMAND))) {
-                        if (targetPlayer.hasPermission(ui.permission(Interface.Limit.USE))) {
+                    if (permissionCache.hasPermission(origin, ui.permission(Interface.Limit.COMMAND))) {
+                        if (permissionCache.hasPermission(targetPlayer, ui.permission(Interface.Limit.USE))) {
                             send(sendCommand, context, ui, targetPlayer);
                         } else {
                             origin.warn(target + " doesn't have permission to use: " + identifier);
@@ -179,7 +182,7 @@ public class OpenCommand extends FormsCommand {
         }
 
         return javaRegistry.getMenus().values().stream()
-                .filter(menu -> origin.hasPermission(menu.permission(Interface.Limit.COMMAND)))
+                .filter(menu -> permissionCache.hasPermission(origin, menu.permission(Interface.Limit.COMMAND)))
                 .map(Interface::getIdentifier)
                 .collect(Collectors.toList());
     }
@@ -198,7 +201,7 @@ public class OpenCommand extends FormsCommand {
 
         return interfacer.getInterfaces(bedrockHandler.isBedrockPlayer(target.getUuid()))
                 .stream()
-                .filter(ui -> origin.hasPermission(ui.permission(Interface.Limit.COMMAND)) && target.hasPermission(ui.permission(Interface.Limit.USE)))
+                .filter(ui -> permissionCache.hasPermission(origin, ui.permission(Interface.Limit.COMMAND)) && permissionCache.hasPermission(target, ui.permission(Interface.Limit.USE)))
                 .map(Interface::getIdentifier)
                 .distinct() // Remove duplicates - forms and menus with the same identifier
                 .collect(Collectors.toList());
@@ -0,0 +1,53 @@
+package dev.kejona.crossplatforms.command.defaults;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
+import dev.kejona.crossplatforms.CrossplatForms;
+import dev.kejona.crossplatforms.command.CommandOrigin;
+import dev.kejona.crossplatforms.command.FormsCommand;
+import dev.kejona.crossplatforms.handler.FormPlayer;
+import dev.kejona.crossplatforms.handler.ServerHandler;
+import dev.kejona.crossplatforms.interfacing.bedrock.PendingFormRegistry;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public class PendingCommand extends FormsCommand {
+
+    public static final String NAME = "pending";
+    public static final String PERMISSION = PERMISSION_BASE + NAME;
+
+    public PendingCommand(CrossplatForms crossplatForms) {
+        super(crossplatForms);
+    }
+
+    @Override
+    public void register(CommandManager<CommandOrigin> manager, Command.Builder<CommandOrigin> defaultBuilder) {
+        ServerHandler serverHandler = crossplatForms.getServerHandler();
+        PendingFormRegistry registry = crossplatForms.getPendingForms();
+
+        manager.command(defaultBuilder.literal(NAME)
+                .permission(PERMISSION)
+                .handler(context -> {
+                    CommandOrigin origin = context.getSender();
+                    List<UUID> players = registry.getPlayers();
+                    if (players.isEmpty()) {
+                        origin.sendMessage("There are no forms waiting for a response.");
+                        return;
+                    }
+
+                    origin.sendMessage(registry.size() + " forms are waiting for a response from " + players.size() + " players (maximum: " + registry.getMaximum() + ", timeout: " + registry.getTimeout() + "ms)");
+                    long now = System.currentTimeMillis();
+                    for (UUID uuid : players) {
+                        FormPlayer player = serverHandler.getPlayer(uuid);
+                        String name = player == null ? uuid.toString() : player.getName();
+                        String forms = registry.getPending(uuid).stream()
+                                .map(form -> form.getIdentifier() + " (" + ((now - form.getSent()) / 1000) + "s)")
+                                .collect(Collectors.joining(", "));
+                        origin.sendMessage(name + ": " + forms);
+                    }
+                })
+                .build());
+    }
+}
@@ -0,0 +1,35 @@
+package dev.kejona.crossplatforms.command.defaults;
+
+import cloud.commandframework.Command;
+import cloud.commandframework.CommandManager;
+import com.google.common.cache.CacheStats;
+import dev.kejona.crossplatforms.CrossplatForms;
+import dev.kejona.crossplatforms.SkinCache;
+import dev.kejona.crossplatforms.command.CommandOrigin;
+import dev.kejona.crossplatforms.command.FormsCommand;
+
+public class SkinsCommand extends FormsCommand {
+
+    public static final String NAME = "skins";
+    public static final String PERMISSION = PERMISSION_BASE + NAME;
+
+    public SkinsCommand(CrossplatForms crossplatForms) {
+        super(crossplatForms);
+    }
+
+    @Override
+    public void register(CommandManager<CommandOrigin> manager, Command.Builder<CommandOrigin> defaultBuilder) {
+        SkinCache skinCache = crossplatForms.getSkinCache();
+
+        manager.command(defaultBuilder.literal(NAME)
+                .permission(PERMISSION)
+                .handler(context -> {
+                    CommandOrigin origin = context.getSender();
+                    CacheStats stats = skinCache.getStats();
+                    origin.sendMessage("Avatar lookups: " + stats.requestCount() + " (hits: " + stats.hitCount() + ", misses: " + stats.missCount() + ")");
+                    origin.sendMessage("Avatars from known textures: " + skinCache.getTextureHits() + ", from decoded skins: " + skinCache.getTextureMisses());
+                    origin.sendMessage("Known textures: " + skinCache.getTextureCount());
+                })
+                .build());
+    }
+}
@@ -5,14 +5,25 @@ import com.google.inject.util.Providers;
 import dev.kejona.crossplatforms.SkinCache;
 import dev.kejona.crossplatforms.handler.BedrockHandler;
 import dev.kejona.crossplatforms.handler.Placeholders;
+import dev.kejona.crossplatforms.handler.PlayerIndex;
 import dev.kejona.crossplatforms.handler.ServerHandler;
 import dev.kejona.crossplatforms.interfacing.Interfacer;
+import dev.kejona.crossplatforms.interfacing.bedrock.PendingFormRegistry;
+import dev.kejona.crossplatforms.interfacing.bedrock.ResponseDispatcher;
+import dev.kejona.crossplatforms.interfacing.java.MenuRefresher;
+import dev.kejona.crossplatforms.permission.PermissionCache;
 import lombok.AllArgsConstructor;
 
 @AllArgsConstructor
 public class ConfigurationModule extends AbstractModule {
 
     private final Interfacer interfacer;
+    private final PendingFormRegistry pendingForms;
+    private final ResponseDispatcher responseDispatcher;
+    private final MenuRefresher menuRefresher;
+    private final PlayerIndex playerIndex;
+    private final PermissionCache permissionCache;
+    private final SkinCache skinCache;
     private final BedrockHandler bedrockHandler;
     private final ServerHandler serverHandler;
     private final Placeholders placeholders;
@@ -23,12 +34,17 @@ public class ConfigurationModule extends AbstractModule {
         // because this module is used for creating configs - bindings are created on the fly (just in time)
 
         bind(Interfacer.class).toInstance(interfacer);
+        bind(PendingFormRegistry.class).toInstance(pendingForms);
+        bind(ResponseDispatcher.class).toInstance(responseDispatcher);
+        bind(MenuRefresher.class).toInstance(menuRefresher);
+        bind(PlayerIndex.class).toInstance(playerIndex);
+        bind(PermissionCache.class).toInstance(permissionCache);
 
         // Hack to stop the instance from having its members being injected
         // which causes a ClassDefNotFound error if Cumulus is not present (EmptyBedrockHandler)
         bind(BedrockHandler.class).toProvider(Providers.of(bedrockHandler));
         bind(ServerHandler.class).toInstance(serverHandler);
         bind(Placeholders.class).toInstance(placeholders);
-        bind(SkinCache.class).asEagerSingleton();
+        bind(SkinCache.class).toInstance(skinCache);
     }
 }
@@ -3,6 +3,7 @@ package dev.kejona.crossplatforms.config;
 import dev.kejona.crossplatforms.Constants;
 import dev.kejona.crossplatforms.command.CommandType;
 import dev.kejona.crossplatforms.command.custom.CustomCommand;
+import dev.kejona.crossplatforms.interfacing.bedrock.PendingFormRegistry;
 import dev.kejona.crossplatforms.utils.ConfigurateUtils;
 import lombok.Getter;
 import org.spongepowered.configurate.NodePath;
@@ -36,6 +37,12 @@ public class GeneralConfig extends Configuration {
 
     private boolean enableDebug = false;
 
+    @Nonnull
+    private PlaceholderCache placeholderCache = new PlaceholderCache();
+
+    @Nonnull
+    private PendingForms pendingForms = new PendingForms();
+
     public static ConfigurationTransformation.Versioned updater() {
         return ConfigurationTransformation.versionedBuilder()
             .versionKey(Configuration.VERSION_KEY)
@@ -71,4 +78,39 @@ public class GeneralConfig extends Configuration {
 
         return builder.build();
     }
+
+    @Getter
+    @ConfigSerializable
+    @SuppressWarnings("FieldMayBeFinal")
+    public static class PlaceholderCache {
+
+        private boolean enable = false;
+
+        /**
+         * The maximum amount of placeholder values to cache, across all players
+         */
+        private long maximumSize = 5000;
+
+        /**
+         * Placeholders to cache, and how long (in milliseconds) their values are valid for
+         */
+        @Nonnull
+        private Map<String, Long> ttl = Collections.emptyMap();
+    }
+
+    @Getter
+    @ConfigSerializable
+    @SuppressWarnings("FieldMayBeFinal")
+    public static class PendingForms {
+
+        /**
+         * The maximum amount of forms that a player may have open without responding to, before the oldest is discarded
+         */
+        private int maximum = PendingFormRegistry.DEFAULT_MAXIMUM;
+
+        /**
+         * How long (in milliseconds) a form may go without a response before it is discarded
+         */
+        private long timeout = PendingFormRegistry.DEFAULT_TIMEOUT;
+    }
 }
@@ -4,7 +4,7 @@ import com.google.inject.Inject;
 import dev.kejona.crossplatforms.SkinCache;
 import dev.kejona.crossplatforms.context.PlayerContext;
 import dev.kejona.crossplatforms.handler.FormPlayer;
-import dev.kejona.crossplatforms.handler.ServerHandler;
+import dev.kejona.crossplatforms.handler.PlayerIndex;
 import dev.kejona.crossplatforms.interfacing.bedrock.simple.SimpleButton;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
@@ -17,25 +17,25 @@ public class PlayerFiller extends UniversalFiller {
 
     private static final String TYPE = "player";
 
-    private final transient ServerHandler serverHandler;
+    private final transient PlayerIndex playerIndex;
     private final transient SkinCache skinCache;
 
     @Inject
-    private PlayerFiller(ServerHandler serverHandler, SkinCache skinCache) {
-        this.serverHandler = serverHandler;
+    private PlayerFiller(PlayerIndex playerIndex, SkinCache skinCache) {
+        this.playerIndex = playerIndex;
         this.skinCache = skinCache;
     }
 
     @Nonnull
     @Override
     public Stream<String> rawOptions(PlayerContext context) {
-        return serverHandler.getPlayerNames().sorted();
+        return playerIndex.snapshot().stream().map(FormPlayer::getName);
     }
 
     @Nonnull
     @Override
     public Stream<SimpleButton> rawButtons(PlayerContext context) {
-        return serverHandler.getPlayersSorted().map(player -> new SimpleButton(player.getName(), headLink(player)));
+        return playerIndex.snapshot().stream().map(player -> new SimpleButton(player.getName(), headLink(player)));
     }
 
     @Override
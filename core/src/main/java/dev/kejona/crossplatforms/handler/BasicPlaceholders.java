@@ -1,14 +1,39 @@
 package dev.kejona.crossplatforms.handler;
 
+import dev.kejona.crossplatforms.resolver.Template;
+
 import javax.annotation.Nonnull;
 
 public class BasicPlaceholders implements Placeholders {
 
+    private static final String PLAYER_NAME = "%player_name%";
+    private static final String PLAYER_UUID = "%player_uuid%";
+
     @Override
     public String setPlaceholders(@Nonnull FormPlayer player, @Nonnull String text) {
         if (text.isEmpty()) {
             return text;
         }
-        return text.replace("%player_name%", player.getName()).replace("%player_uuid%", player.getUuid().toString());
+        return text.replace(PLAYER_NAME, player.getName()).replace(PLAYER_UUID, player.getUuid().toString());
+    }
+
+    @Nonnull
+    @Override
+    public String setPlaceholders(@Nonnull FormPlayer player, @Nonnull Template template) {
+        if (template.isStatic()) {
+            return template.source();
+        }
+        if (!template.isWellFormed()) {
+            return setPlaceholders(player, template.source());
+        }
+
+        return template.fill(placeholder -> {
+            if (PLAYER_NAME.equals(placeholder)) {
+                return player.getName();
+            } else if (PLAYER_UUID.equals(placeholder)) {
+                return player.getUuid().toString();
+            }
+            return null;
+        });
     }
 }
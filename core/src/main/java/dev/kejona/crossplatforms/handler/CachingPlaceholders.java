@@ -0,0 +1,185 @@
+package dev.kejona.crossplatforms.handler;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import dev.kejona.crossplatforms.Logger;
+import dev.kejona.crossplatforms.config.ConfigManager;
+import dev.kejona.crossplatforms.config.GeneralConfig;
+import dev.kejona.crossplatforms.reloadable.Reloadable;
+import dev.kejona.crossplatforms.reloadable.ReloadableRegistry;
+import dev.kejona.crossplatforms.resolver.Template;
+import dev.kejona.crossplatforms.session.SessionListener;
+import dev.kejona.crossplatforms.session.SessionRegistry;
+import lombok.Value;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the values of configured placeholders per player, so that expensive placeholders are not resolved by the
+ * underlying {@link Placeholders} implementation every time they appear in a menu or form.
+ * Caching is disabled until {@link #load(ConfigManager)} is called and enabled in the general config.
+ */
+public class CachingPlaceholders implements Placeholders, Reloadable, SessionListener {
+
+    private final Placeholders delegate;
+
+    @Nullable
+    private ConfigManager configManager;
+
+    private volatile boolean enabled = false;
+
+    /**
+     * Placeholders (including delimiters) to cache, and their time to live in milliseconds
+     */
+    private volatile Map<String, Long> ttls = Collections.emptyMap();
+
+    /**
+     * The cached values of each player, by placeholder. Indexed by player so that a player's values can be discarded at
+     * once when they leave.
+     */
+    @Nullable
+    private volatile Cache<UUID, Map<String, CachedValue>> cache;
+
+    public CachingPlaceholders(@Nonnull Placeholders delegate) {
+        this.delegate = delegate;
+    }
+
+    /**
+     * Reads the cache settings from the general config, and registers this for reloading and player quits.
+     * Must be called after the {@link dev.kejona.crossplatforms.CrossplatForms} instance is constructed.
+     */
+    public void load(@Nonnull ConfigManager configManager) {
+        this.configManager = configManager;
+        ReloadableRegistry.register(this);
+        SessionRegistry.register(this);
+        configure();
+    }
+
+    private void configure() {
+        GeneralConfig.PlaceholderCache config = configManager == null ? null : configManager.getConfig(GeneralConfig.class)
+            .map(GeneralConfig::getPlaceholderCache)
+            .orElse(null);
+
+        if (config == null || !config.isEnable() || config.getTtl().isEmpty()) {
+            enabled = false;
+            ttls = Collections.emptyMap();
+            cache = null;
+            return;
+        }
+
+        Map<String, Long> ttls = new HashMap<>();
+        long maxTtl = 0;
+        for (Map.Entry<String, Long> entry : config.getTtl().entrySet()) {
+            String placeholder = entry.getKey();
+            if (!Template.isPlaceholder(placeholder)) {
+                placeholder = Template.DELIMITER + placeholder + Template.DELIMITER; // allow delimiters to be left out
+            }
+            long ttl = entry.getValue() == null ? 0 : entry.getValue();
+            if (!Template.isPlaceholder(placeholder) || ttl <= 0) {
+                Logger.get().warn("Not caching placeholder '" + entry.getKey() + "' with ttl " + entry.getValue() + " since it is not a valid placeholder or the ttl is not positive");
+                continue;
+            }
+            ttls.put(placeholder, ttl);
+            maxTtl = Math.max(maxTtl, ttl);
+        }
+
+        // a player can have at most one value per cached placeholder
+        int valuesPerPlayer = ttls.size();
+        this.ttls = ttls;
+        this.cache = CacheBuilder.newBuilder()
+            .maximumWeight(Math.max(0, config.getMaximumSize()))
+            .weigher((UUID player, Map<String, CachedValue> values) -> valuesPerPlayer)
+            .expireAfterAccess(maxTtl, TimeUnit.MILLISECONDS) // values past their own ttl are ignored until then
+            .build();
+        this.enabled = !ttls.isEmpty();
+        Logger.get().debug("Caching " + ttls.size() + " placeholders: " + ttls);
+    }
+
+    @Override
+    public boolean reload() {
+        configure();
+        return true;
+    }
+
+    /**
+     * Discards all cached values for the given player.
+     */
+    @Override
+    public void onQuit(@Nonnull UUID player) {
+        Cache<UUID, Map<String, CachedValue>> cache = this.cache;
+        if (cache != null) {
+            cache.invalidate(player);
+        }
+    }
+
+    @Override
+    public String setPlaceholders(@Nonnull FormPlayer player, @Nonnull String text) {
+        if (!enabled || text.isEmpty() || text.indexOf(Template.DELIMITER) == -1) {
+            return delegate.setPlaceholders(player, text);
+        }
+        return setPlaceholders(player, Template.compile(text));
+    }
+
+    @Nonnull
+    @Override
+    public String setPlaceholders(@Nonnull FormPlayer player, @Nonnull Template template) {
+        Cache<UUID, Map<String, CachedValue>> cache = this.cache;
+        if (!enabled || cache == null || template.isStatic() || !template.isWellFormed()) {
+            return delegate.setPlaceholders(player, template);
+        }
+
+        Map<String, Long> ttls = this.ttls;
+        boolean uncached = false;
+        for (String placeholder : template.placeholders()) {
+            if (!ttls.containsKey(placeholder)) {
+                uncached = true;
+                break;
+            }
+        }
+
+        Map<String, CachedValue> values = cache.asMap().computeIfAbsent(player.getUuid(), uuid -> new ConcurrentHashMap<>());
+        String filled = template.fill(placeholder -> {
+            Long ttl = ttls.get(placeholder);
+            if (ttl == null) {
+                return null; // left for the delegate
+            }
+            return value(values, player, placeholder, ttl);
+        });
+
+        if (uncached) {
+            //noinspection StringEquality
+            if (filled == template.source()) {
+                return delegate.setPlaceholders(player, template);
+            }
+            return delegate.setPlaceholders(player, filled);
+        }
+        return filled;
+    }
+
+    @Nonnull
+    private String value(Map<String, CachedValue> values, FormPlayer player, String placeholder, long ttl) {
+        long now = System.currentTimeMillis();
+
+        CachedValue cached = values.get(placeholder);
+        if (cached != null && cached.expiry > now) {
+            return cached.value;
+        }
+
+        String value = delegate.setPlaceholders(player, placeholder);
+        values.put(placeholder, new CachedValue(value, now + ttl));
+        return value;
+    }
+
+    @Value
+    private static class CachedValue {
+        String value;
+        long expiry;
+    }
+}
@@ -3,9 +3,11 @@ package dev.kejona.crossplatforms.handler;
 import dev.kejona.crossplatforms.resolver.MapResolver;
 import dev.kejona.crossplatforms.resolver.Resolver;
 import dev.kejona.crossplatforms.resolver.PlayerResolver;
+import dev.kejona.crossplatforms.resolver.Template;
 
 import javax.annotation.Nonnull;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -13,6 +15,32 @@ public interface Placeholders {
 
     String setPlaceholders(@Nonnull FormPlayer player, @Nonnull String text);
 
+    /**
+     * Sets the placeholders of a compiled template. Templates without any placeholders are returned without being
+     * passed to {@link #setPlaceholders(FormPlayer, String)}.
+     * @param player The player
+     * @param template The template
+     * @return the formatted text.
+     */
+    @Nonnull
+    default String setPlaceholders(@Nonnull FormPlayer player, @Nonnull Template template) {
+        if (template.isStatic()) {
+            return template.source();
+        }
+        return setPlaceholders(player, template.source());
+    }
+
+    /**
+     * Sets the placeholders of all templates of a single render, evaluating each distinct placeholder only once.
+     * @param player The player
+     * @param templates The templates
+     * @return the formatted text, in the same order as the templates
+     */
+    @Nonnull
+    default List<String> resolveAll(@Nonnull FormPlayer player, @Nonnull Collection<Template> templates) {
+        return resolver(player).applyAll(templates);
+    }
+
     default Resolver resolver(FormPlayer player) {
         return new PlayerResolver(player, this);
     }
@@ -53,14 +81,11 @@ public interface Placeholders {
             return text;
         }
 
-        String resolved = text;
-        if (!additional.isEmpty()) {
-            for (String key : additional.keySet()) {
-                resolved = resolved.replace(key, additional.get(key));
-            }
+        if (additional.isEmpty()) {
+            return setPlaceholders(player, text);
         }
 
-        return setPlaceholders(player, resolved);
+        return resolver(player, additional).apply(text);
     }
 
     /**
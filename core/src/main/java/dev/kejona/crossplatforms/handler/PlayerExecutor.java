@@ -0,0 +1,76 @@
+package dev.kejona.crossplatforms.handler;
+
+import dev.kejona.crossplatforms.Logger;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+/**
+ * Runs tasks through another executor, such as an asynchronous scheduler, while keeping the tasks of each player in the
+ * order they were submitted. Tasks of different players may still run concurrently.
+ */
+public class PlayerExecutor {
+
+    private final Executor executor;
+
+    /**
+     * The tasks waiting behind the running task of each player. A player only has a queue while one of their tasks is
+     * running.
+     */
+    private final Map<UUID, Queue<Runnable>> queues = new HashMap<>();
+
+    public PlayerExecutor(@Nonnull Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Runs the task once every task previously submitted for the player has completed
+     * @param player The UUID of the player that the task is for
+     * @param task The task to run
+     */
+    public void execute(@Nonnull UUID player, @Nonnull Runnable task) {
+        synchronized (queues) {
+            Queue<Runnable> queue = queues.get(player);
+            if (queue != null) {
+                queue.add(task); // run by the task that is already running
+                return;
+            }
+            queues.put(player, new ArrayDeque<>());
+        }
+        executor.execute(() -> drain(player, task));
+    }
+
+    private void drain(UUID player, Runnable first) {
+        Runnable task = first;
+        while (task != null) {
+            try {
+                task.run();
+            } catch (Throwable e) {
+                Logger.get().severe("Failed to run a task for " + player);
+                e.printStackTrace();
+            }
+
+            synchronized (queues) {
+                Queue<Runnable> queue = queues.get(player);
+                task = queue.poll();
+                if (task == null) {
+                    queues.remove(player);
+                }
+            }
+        }
+    }
+
+    /**
+     * @return the amount of players that have tasks running or waiting
+     */
+    public int size() {
+        synchronized (queues) {
+            return queues.size();
+        }
+    }
+}
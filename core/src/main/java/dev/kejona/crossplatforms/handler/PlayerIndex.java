@@ -0,0 +1,77 @@
+package dev.kejona.crossplatforms.handler;
+
+import dev.kejona.crossplatforms.session.SessionListener;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * The online players, sorted by {@link ServerHandler#PLAYER_COMPARATOR}. The index is updated as players join and
+ * leave, so that a sorted snapshot can be taken without sorting or wrapping every online player again.
+ */
+public class PlayerIndex implements SessionListener {
+
+    private final Object lock = new Object();
+
+    /**
+     * Immutable, and replaced whenever a player joins or leaves
+     */
+    private volatile List<FormPlayer> sorted;
+
+    /**
+     * @param online The players that are already online
+     */
+    public PlayerIndex(@Nonnull Stream<FormPlayer> online) {
+        sorted = Collections.unmodifiableList(online.sorted(ServerHandler.PLAYER_COMPARATOR).collect(Collectors.toList()));
+    }
+
+    /**
+     * @return An immutable snapshot of the online players, in sorted order
+     */
+    @Nonnull
+    public List<FormPlayer> snapshot() {
+        return sorted;
+    }
+
+    @Override
+    public void onJoin(@Nonnull FormPlayer player) {
+        synchronized (lock) {
+            List<FormPlayer> players = new ArrayList<>(sorted.size() + 1);
+            boolean inserted = false;
+            for (FormPlayer existing : sorted) {
+                if (existing.getUuid().equals(player.getUuid())) {
+                    continue; // replace any stale entry
+                }
+                if (!inserted && ServerHandler.PLAYER_COMPARATOR.compare(player, existing) < 0) {
+                    players.add(player);
+                    inserted = true;
+                }
+                players.add(existing);
+            }
+            if (!inserted) {
+                players.add(player);
+            }
+            sorted = Collections.unmodifiableList(players);
+        }
+    }
+
+    @Override
+    public void onQuit(@Nonnull UUID uuid) {
+        synchronized (lock) {
+            List<FormPlayer> current = sorted;
+            for (int i = 0; i < current.size(); i++) {
+                if (current.get(i).getUuid().equals(uuid)) {
+                    List<FormPlayer> players = new ArrayList<>(current);
+                    players.remove(i);
+                    sorted = Collections.unmodifiableList(players);
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -87,6 +87,19 @@ public interface ServerHandler {
      */
     void clearInterceptCommands();
 
+    /**
+     * Replace all previously registered {@link CustomCommand}s registered as proxy commands. Implementations that look
+     * up commands on other threads should make the replacement atomic, so that no commands are missed while reloading.
+     * The default implementation clears the commands and then registers each one.
+     * @param proxyCommands The commands to register, following the requirements of {@link #registerInterceptCommand(InterceptCommand)}
+     */
+    default void setInterceptCommands(List<InterceptCommand> proxyCommands) {
+        clearInterceptCommands();
+        for (InterceptCommand command : proxyCommands) {
+            registerInterceptCommand(command);
+        }
+    }
+
     /**
      * Execute the given runnable in a manner that allows for thread safe access to the server API of the given implementation.
      * The default implementation is simply running the runnable immediately
@@ -95,4 +108,33 @@ public interface ServerHandler {
     default void executeSafely(Runnable runnable) {
         runnable.run();
     }
+
+    /**
+     * @return true if {@link #executeSafely(Runnable)} hands runnables off to another thread, false if it runs them
+     * immediately on the calling thread
+     */
+    default boolean defersSafeExecution() {
+        return false;
+    }
+
+    /**
+     * Execute the given runnable off of the thread that the server API must be accessed on, if the implementation has
+     * such a thread. The runnable must not access the server API.
+     * The default implementation is simply running the runnable immediately
+     * @param runnable The runnable to execute
+     */
+    default void executeAsync(Runnable runnable) {
+        runnable.run();
+    }
+
+    /**
+     * Execute the given runnable like {@link #executeAsync(Runnable)}, but only after every runnable previously given
+     * for the same player has completed. Used for anything sent to the player, which must arrive in order.
+     * The default implementation is simply running the runnable immediately
+     * @param player The UUID of the player that the runnable is for
+     * @param runnable The runnable to execute
+     */
+    default void executeAsync(UUID player, Runnable runnable) {
+        runnable.run();
+    }
 }
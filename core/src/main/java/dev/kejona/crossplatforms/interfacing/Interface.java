@@ -10,6 +10,7 @@ import dev.kejona.crossplatforms.permission.Permission;
 import dev.kejona.crossplatforms.permission.PermissionDefault;
 import dev.kejona.crossplatforms.resolver.MapResolver;
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.ToString;
@@ -25,6 +26,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.StringJoiner;
+import java.util.UUID;
 
 @ToString
 @ConfigSerializable
@@ -46,6 +48,9 @@ public abstract class Interface {
     @Getter
     protected String title = "";
 
+    @ToString.Exclude
+    private transient Template titleTemplate;
+
     private Map<Interface.Limit, PermissionDefault> permissionDefaults = Collections.emptyMap();
 
     @Getter
@@ -54,6 +59,12 @@ public abstract class Interface {
     @Getter
     private transient String argumentSyntax = "";
 
+    /**
+     * How long (in milliseconds) the rendered output may be reused for a player, if none of the placeholders it uses
+     * have changed. 0 to disable.
+     */
+    private long cache = 0;
+
     @PostProcess
     protected void postProcess() {
         StringJoiner joiner = new StringJoiner(" ");
@@ -64,6 +75,40 @@ public abstract class Interface {
         argumentSyntax = joiner.toString();
     }
 
+    /**
+     * @return How long the rendered output may be reused for a player, in milliseconds. 0 if disabled.
+     */
+    protected long cacheTtl() {
+        return cache;
+    }
+
+    /**
+     * Prepares as much of this form or menu as possible ahead of time. Called by the registry whenever it is loaded.
+     * @return true if the content does not depend on the player it is sent to, and was entirely prepared
+     */
+    public boolean prebuild() {
+        return false;
+    }
+
+    /**
+     * Discards any state held for the given player, such as the rendered output.
+     * @param uuid The UUID of the player
+     */
+    public void invalidate(@Nonnull UUID uuid) {
+        // no-op
+    }
+
+    /**
+     * @return The title, compiled for placeholder resolution
+     */
+    @Nonnull
+    protected Template titleTemplate() {
+        if (titleTemplate == null) {
+            titleTemplate = Template.compile(title);
+        }
+        return titleTemplate;
+    }
+
     public void send(FormPlayer recipient, Map<String, String> args) throws ArgumentException {
         Resolver resolver = placeholders.resolver(recipient);
         if (arguments.isEmpty()) {
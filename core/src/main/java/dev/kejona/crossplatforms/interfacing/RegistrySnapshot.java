@@ -0,0 +1,34 @@
+package dev.kejona.crossplatforms.interfacing;
+
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * The forms or menus of a registry as they were loaded, and if they are enabled. Immutable, so that a registry can
+ * publish all of it at once.
+ */
+@Getter
+public final class RegistrySnapshot<T extends Interface> {
+
+    private static final RegistrySnapshot<?> DISABLED = new RegistrySnapshot<>(Collections.emptyMap(), false);
+
+    /**
+     * The forms or menus by identifier. Unmodifiable.
+     */
+    private final Map<String, T> interfaces;
+
+    private final boolean enabled;
+
+    public RegistrySnapshot(@Nonnull Map<String, T> interfaces, boolean enabled) {
+        this.interfaces = Collections.unmodifiableMap(interfaces);
+        this.enabled = enabled;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T extends Interface> RegistrySnapshot<T> disabled() {
+        return (RegistrySnapshot<T>) DISABLED;
+    }
+}
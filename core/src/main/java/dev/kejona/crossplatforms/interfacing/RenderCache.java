@@ -0,0 +1,107 @@
+package dev.kejona.crossplatforms.interfacing;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
+import lombok.Value;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Caches the last rendered output of a form or menu per player. An output is reused if the values of every
+ * placeholder the form or menu uses (its fingerprint) are the same as when it was rendered.
+ * @param <T> The rendered output
+ */
+public final class RenderCache<T> {
+
+    /**
+     * The distinct placeholders that the output depends on
+     */
+    private final List<String> placeholders;
+
+    private final Cache<UUID, Rendered<T>> cache;
+
+    private RenderCache(List<String> placeholders, long ttl) {
+        this.placeholders = placeholders;
+        this.cache = CacheBuilder.newBuilder()
+            .expireAfterWrite(ttl, TimeUnit.MILLISECONDS)
+            .build();
+    }
+
+    /**
+     * Creates a render cache for output that is rendered from the given templates.
+     * @param ttl How long an output may be reused, in milliseconds
+     * @param templates Every template that the output depends on. Null elements are ignored.
+     * @return a new render cache, or null if the ttl is not positive or if any template is not well formed, in which
+     * case the placeholders that it uses cannot be known.
+     */
+    @Nullable
+    public static <T> RenderCache<T> create(long ttl, @Nonnull Collection<Template> templates) {
+        if (ttl <= 0) {
+            return null;
+        }
+
+        Set<String> placeholders = new LinkedHashSet<>();
+        for (Template template : templates) {
+            if (template == null) {
+                continue;
+            }
+            if (!template.isWellFormed()) {
+                return null;
+            }
+            placeholders.addAll(template.placeholders());
+        }
+        return new RenderCache<>(Collections.unmodifiableList(new ArrayList<>(placeholders)), ttl);
+    }
+
+    /**
+     * Resolves the fingerprint of a render. The resolver should be the same {@link Resolver#memoized()} resolver used
+     * for rendering, so that placeholders are not evaluated twice.
+     * @param resolver The resolver to resolve the placeholders with
+     * @return The resolved value of every placeholder that the output depends on
+     */
+    @Nonnull
+    public List<String> fingerprint(@Nonnull Resolver resolver) {
+        List<String> values = new ArrayList<>(placeholders.size());
+        for (String placeholder : placeholders) {
+            values.add(resolver.apply(placeholder));
+        }
+        return values;
+    }
+
+    /**
+     * @return The output last rendered for the player, if it has not expired and has the same fingerprint
+     */
+    @Nullable
+    public T get(@Nonnull UUID player, @Nonnull List<String> fingerprint) {
+        Rendered<T> rendered = cache.getIfPresent(player);
+        if (rendered != null && rendered.fingerprint.equals(fingerprint)) {
+            return rendered.output;
+        }
+        return null;
+    }
+
+    public void put(@Nonnull UUID player, @Nonnull List<String> fingerprint, @Nonnull T output) {
+        cache.put(player, new Rendered<>(fingerprint, output));
+    }
+
+    public void invalidate(@Nonnull UUID player) {
+        cache.invalidate(player);
+    }
+
+    @Value
+    private static class Rendered<T> {
+        List<String> fingerprint;
+        T output;
+    }
+}
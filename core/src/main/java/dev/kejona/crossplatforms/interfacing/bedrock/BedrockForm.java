@@ -11,6 +11,7 @@ import dev.kejona.crossplatforms.interfacing.Interface;
 import dev.kejona.crossplatforms.resolver.Resolver;
 import dev.kejona.crossplatforms.serialize.KeyedType;
 import lombok.Getter;
+import lombok.RequiredArgsConstructor;
 import lombok.ToString;
 import org.geysermc.cumulus.response.FormResponse;
 import org.geysermc.cumulus.response.result.FormResponseResult;
@@ -18,9 +19,11 @@ import org.geysermc.cumulus.response.result.InvalidFormResponseResult;
 import org.geysermc.cumulus.util.FormImage;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 
 @ToString
 @Getter
@@ -33,6 +36,12 @@ public abstract class BedrockForm extends Interface implements KeyedType {
 
     @Inject
     protected transient BedrockHandler bedrockHandler;
+
+    @Inject
+    protected transient PendingFormRegistry pendingForms;
+
+    @Inject
+    protected transient ResponseDispatcher responseDispatcher;
     protected transient Logger logger = Logger.get();
 
     protected final transient String permissionBase = Constants.Id() + ".form.";
@@ -50,7 +59,7 @@ public abstract class BedrockForm extends Interface implements KeyedType {
             logger.debug("Executing response handler on this thread: " + Thread.currentThread().getName());
             runnable.run();
         } else {
-            serverHandler.executeSafely(() -> {
+            responseDispatcher.dispatch(() -> {
                 logger.debug("Executing response handler on thread: " + Thread.currentThread().getName());
                 runnable.run();
             });
@@ -73,6 +82,22 @@ public abstract class BedrockForm extends Interface implements KeyedType {
         executeHandler(() -> Action.affectPlayer(player, incorrectActions, resolver, this));
     }
 
+    /**
+     * Tracks a form that is about to be sent, so that its response handlers are released if it is never responded to.
+     * The returned responder should be given to the form builder as its closed/invalid and valid result handlers.
+     * @param player The player the form is being sent to
+     * @param resolver The resolver for handling an incorrect response
+     * @param validHandler The handler for a valid response. Note that this is not called with
+     *                     {@link #executeHandler(Runnable)}, so it should do so itself.
+     * @param <R> The response type of the form
+     * @return The responder
+     */
+    @Nonnull
+    protected final <R extends FormResponse> Responder<R> track(FormPlayer player, Resolver resolver, Consumer<R> validHandler) {
+        Handlers<R> handlers = new Handlers<>(result -> handleIncorrect(player, resolver, result), validHandler);
+        return new Responder<>(pendingForms.track(player.getUuid(), identifier, handlers));
+    }
+
     @Nullable
     public static FormImage createFormImage(@Nullable String data) {
         if (data == null || data.isEmpty()) {
@@ -87,4 +112,35 @@ public abstract class BedrockForm extends Interface implements KeyedType {
             return FormImage.of(type, data);
         }
     }
+
+    /**
+     * Passes the responses of a form to its handlers, while only referencing the {@link PendingForm}.
+     * If the pending form was discarded, responses are ignored.
+     * @param <R> The response type of the form
+     */
+    @RequiredArgsConstructor
+    protected static final class Responder<R extends FormResponse> {
+
+        private final PendingForm<Handlers<R>> pending;
+
+        public void incorrect(FormResponseResult<R> result) {
+            Handlers<R> handlers = pending.complete();
+            if (handlers != null) {
+                handlers.incorrect.accept(result);
+            }
+        }
+
+        public void valid(R response) {
+            Handlers<R> handlers = pending.complete();
+            if (handlers != null) {
+                handlers.valid.accept(response);
+            }
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static final class Handlers<R extends FormResponse> {
+        private final Consumer<FormResponseResult<R>> incorrect;
+        private final Consumer<R> valid;
+    }
 }
@@ -2,52 +2,54 @@ package dev.kejona.crossplatforms.interfacing.bedrock;
 
 import dev.kejona.crossplatforms.Logger;
 import dev.kejona.crossplatforms.config.ConfigManager;
+import dev.kejona.crossplatforms.interfacing.RegistrySnapshot;
 import dev.kejona.crossplatforms.permission.Permission;
 import dev.kejona.crossplatforms.permission.Permissions;
 import dev.kejona.crossplatforms.reloadable.Reloadable;
 import dev.kejona.crossplatforms.reloadable.ReloadableRegistry;
-import lombok.Getter;
+import dev.kejona.crossplatforms.session.SessionListener;
+import dev.kejona.crossplatforms.session.SessionRegistry;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
-public class BedrockFormRegistry implements Reloadable {
+public class BedrockFormRegistry implements Reloadable, SessionListener {
 
     private final ConfigManager configManager;
     private final Permissions permissions;
 
-    @Getter
-    private final Map<String, BedrockForm> forms = new HashMap<>();
-
     /**
-     * If bedrock forms are enabled. may be false if disabled in the config or if all forms failed to load.
+     * The forms by identifier, and if bedrock forms are enabled. Replaced as a whole when loading, so that readers on
+     * other threads never see a partially loaded set of forms, or a flag that doesn't agree with them.
      */
-    @Getter
-    private boolean enabled = false;
+    private volatile RegistrySnapshot<BedrockForm> snapshot = RegistrySnapshot.disabled();
 
     public BedrockFormRegistry(ConfigManager configManager, Permissions permissions) {
         this.configManager = configManager;
         this.permissions = permissions;
         ReloadableRegistry.register(this);
+        SessionRegistry.register(this);
         load();
     }
 
     private void load() {
-        forms.clear();
-
         if (!configManager.getConfig(FormConfig.class).isPresent()) {
-            enabled = false;
+            publish(Collections.emptyMap(), false);
             Logger.get().warn("Form config is not present, not enabling forms.");
             return;
         }
 
         FormConfig config = configManager.getConfig(FormConfig.class).get();
-        enabled = config.isEnable();
-        if (enabled) {
+        Map<String, BedrockForm> forms = new HashMap<>();
+        if (config.isEnable()) {
             Set<Permission> permissions = new HashSet<>();
+            int prebuilt = 0;
 
             for (String identifier : config.getForms().keySet()) {
                 BedrockForm form = config.getForms().get(identifier);
@@ -55,10 +57,20 @@ public class BedrockFormRegistry implements Reloadable {
 
                 form.generatePermissions(config);
                 permissions.addAll(form.getPermissions().values());
+
+                if (form.prebuild()) {
+                    prebuilt++;
+                }
             }
+            Logger.get().debug("Prebuilt " + prebuilt + " static forms out of " + forms.size());
 
             this.permissions.registerPermissions(permissions);
         }
+        publish(forms, config.isEnable());
+    }
+
+    private void publish(Map<String, BedrockForm> forms, boolean enabled) {
+        this.snapshot = new RegistrySnapshot<>(forms, enabled);
     }
 
     @Override
@@ -67,6 +79,13 @@ public class BedrockFormRegistry implements Reloadable {
         return true;
     }
 
+    @Override
+    public void onQuit(@Nonnull UUID uuid) {
+        for (BedrockForm form : snapshot.getInterfaces().values()) {
+            form.invalidate(uuid);
+        }
+    }
+
     /**
      * Get a BedrockForm, based off its name.
      * @param formName The menu name
@@ -74,6 +93,21 @@ public class BedrockFormRegistry implements Reloadable {
      */
     @Nullable
     public BedrockForm getForm(@Nullable String formName) {
-        return forms.get(formName);
+        return snapshot.getInterfaces().get(formName);
+    }
+
+    /**
+     * @return The forms by identifier. Not backed by this registry, so the forms of a later reload are not reflected.
+     */
+    @Nonnull
+    public Map<String, BedrockForm> getForms() {
+        return snapshot.getInterfaces();
+    }
+
+    /**
+     * @return If bedrock forms are enabled. may be false if disabled in the config or if all forms failed to load.
+     */
+    public boolean isEnabled() {
+        return snapshot.isEnabled();
     }
 }
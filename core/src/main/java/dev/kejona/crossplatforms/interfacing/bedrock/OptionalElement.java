@@ -1,6 +1,7 @@
 package dev.kejona.crossplatforms.interfacing.bedrock;
 
 import dev.kejona.crossplatforms.Logger;
+import dev.kejona.crossplatforms.resolver.Template;
 import dev.kejona.crossplatforms.utils.ParseUtils;
 import dev.kejona.crossplatforms.utils.StringUtils;
 import lombok.ToString;
@@ -57,6 +58,20 @@ public abstract class OptionalElement {
         }
     }
 
+    /**
+     * @return true if none of the should-show expressions contain placeholders, so that {@link #show()} does not
+     * depend on the player.
+     */
+    @Contract(pure = true)
+    protected boolean hasStaticConditions() {
+        for (String expression : shouldShow) {
+            if (expression.indexOf(Template.DELIMITER) != -1) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     private static boolean defaultShow(String failed) {
         Logger.get().warn("Boolean coercion failed for should-show, defaulting to false: " + failed);
         return false;
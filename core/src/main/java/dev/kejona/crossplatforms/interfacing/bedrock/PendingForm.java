@@ -0,0 +1,72 @@
+package dev.kejona.crossplatforms.interfacing.bedrock;
+
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.UUID;
+
+/**
+ * A form that has been sent to a player, but not yet responded to. Holds the response handlers of the form until it
+ * is completed, or discarded by the {@link PendingFormRegistry}, so that the form and whatever its handlers reference
+ * are not retained by an unanswered form.
+ * @param <T> The response handlers
+ */
+public final class PendingForm<T> {
+
+    private final PendingFormRegistry registry;
+
+    @Getter
+    private final UUID player;
+
+    @Getter
+    private final String identifier;
+
+    /**
+     * The time the form was sent at, in milliseconds since the epoch
+     */
+    @Getter
+    private final long sent;
+
+    @Nullable
+    private volatile T handlers;
+
+    PendingForm(PendingFormRegistry registry, UUID player, String identifier, long sent, @Nonnull T handlers) {
+        this.registry = registry;
+        this.player = player;
+        this.identifier = identifier;
+        this.sent = sent;
+        this.handlers = handlers;
+    }
+
+    /**
+     * Completes this pending form, if it has not already been completed or discarded.
+     * @return The response handlers, or null if they were discarded because the form timed out, was replaced or the
+     * player left.
+     */
+    @Nullable
+    public T complete() {
+        registry.remove(this);
+        T handlers = this.handlers;
+        this.handlers = null;
+        if (handlers != null && registry.isExpired(this, System.currentTimeMillis())) {
+            registry.logDiscarded(this, "it timed out");
+            return null;
+        }
+        return handlers;
+    }
+
+    /**
+     * Releases the response handlers
+     */
+    void discard() {
+        handlers = null;
+    }
+
+    /**
+     * @return false if this form has been completed or discarded
+     */
+    public boolean isPending() {
+        return handlers != null;
+    }
+}
@@ -0,0 +1,247 @@
+package dev.kejona.crossplatforms.interfacing.bedrock;
+
+import dev.kejona.crossplatforms.Logger;
+import dev.kejona.crossplatforms.config.ConfigManager;
+import dev.kejona.crossplatforms.config.GeneralConfig;
+import dev.kejona.crossplatforms.reloadable.Reloadable;
+import dev.kejona.crossplatforms.reloadable.ReloadableRegistry;
+import dev.kejona.crossplatforms.session.SessionListener;
+import dev.kejona.crossplatforms.session.SessionRegistry;
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Tracks the forms that have been sent to each player but not yet responded to. The response handlers of a form are
+ * released once the form is responded to, once it times out, once the player has too many other forms outstanding,
+ * once the player leaves, or once the forms are reloaded.
+ */
+public class PendingFormRegistry implements Reloadable, SessionListener {
+
+    public static final int DEFAULT_MAXIMUM = 5;
+    public static final long DEFAULT_TIMEOUT = 10 * 60 * 1000;
+
+    private final Map<UUID, Deque<PendingForm<?>>> pending = new ConcurrentHashMap<>();
+
+    @Nullable
+    private ConfigManager configManager;
+
+    /**
+     * The maximum amount of outstanding forms per player. Not positive if unlimited.
+     */
+    @Getter
+    private volatile int maximum;
+
+    /**
+     * How long, in milliseconds, a form may go without a response. Not positive if unlimited.
+     */
+    @Getter
+    private volatile long timeout;
+
+    /**
+     * The last time that every player's pending forms were checked for timeouts
+     */
+    private volatile long lastSweep = System.currentTimeMillis();
+
+    public PendingFormRegistry() {
+        this(DEFAULT_MAXIMUM, DEFAULT_TIMEOUT);
+    }
+
+    public PendingFormRegistry(int maximum, long timeout) {
+        this.maximum = maximum;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Reads the limits from the general config, and registers this for reloading and player quits.
+     * Must be called after the {@link dev.kejona.crossplatforms.CrossplatForms} instance is constructed.
+     */
+    public void load(@Nonnull ConfigManager configManager) {
+        this.configManager = configManager;
+        ReloadableRegistry.register(this);
+        SessionRegistry.register(this);
+        configure();
+    }
+
+    private void configure() {
+        GeneralConfig.PendingForms config = configManager == null ? null : configManager.getConfig(GeneralConfig.class)
+            .map(GeneralConfig::getPendingForms)
+            .orElse(null);
+
+        if (config == null) {
+            maximum = DEFAULT_MAXIMUM;
+            timeout = DEFAULT_TIMEOUT;
+        } else {
+            maximum = config.getMaximum();
+            timeout = config.getTimeout();
+        }
+    }
+
+    /**
+     * Releases the handlers of every pending form, since they reference forms that may have been replaced.
+     */
+    @Override
+    public boolean reload() {
+        int discarded = clear();
+        if (discarded > 0) {
+            Logger.get().debug("Discarded " + discarded + " pending forms due to reload");
+        }
+        configure();
+        return true;
+    }
+
+    @Override
+    public void onQuit(@Nonnull UUID uuid) {
+        Deque<PendingForm<?>> forms = pending.remove(uuid);
+        if (forms != null) {
+            synchronized (forms) {
+                forms.forEach(PendingForm::discard);
+            }
+        }
+    }
+
+    /**
+     * Tracks a form that is about to be sent to a player. If the player then has too many pending forms, the handlers
+     * of their oldest pending form are released.
+     * @param player The player the form is being sent to
+     * @param identifier The identifier of the form
+     * @param handlers The response handlers of the form
+     * @return The pending form, which must be completed when the form is responded to
+     */
+    @Nonnull
+    public <T> PendingForm<T> track(@Nonnull UUID player, @Nonnull String identifier, @Nonnull T handlers) {
+        long now = System.currentTimeMillis();
+        sweep(now);
+
+        PendingForm<T> form = new PendingForm<>(this, player, identifier, now, handlers);
+        Deque<PendingForm<?>> forms = pending.computeIfAbsent(player, uuid -> new ArrayDeque<>(2));
+        synchronized (forms) {
+            forms.addLast(form);
+            int maximum = this.maximum;
+            while (maximum > 0 && forms.size() > maximum) {
+                PendingForm<?> oldest = forms.removeFirst();
+                oldest.discard();
+                logDiscarded(oldest, "too many forms were sent after it");
+            }
+        }
+        return form;
+    }
+
+    /**
+     * @return An immutable copy of the pending forms of the given player, oldest first
+     */
+    @Nonnull
+    public List<PendingForm<?>> getPending(@Nonnull UUID player) {
+        Deque<PendingForm<?>> forms = pending.get(player);
+        if (forms == null) {
+            return Collections.emptyList();
+        }
+        synchronized (forms) {
+            return Collections.unmodifiableList(new ArrayList<>(forms));
+        }
+    }
+
+    /**
+     * @return An immutable copy of every player that has pending forms
+     */
+    @Nonnull
+    public List<UUID> getPlayers() {
+        List<UUID> players = new ArrayList<>();
+        pending.forEach((uuid, forms) -> {
+            synchronized (forms) {
+                if (!forms.isEmpty()) {
+                    players.add(uuid);
+                }
+            }
+        });
+        return Collections.unmodifiableList(players);
+    }
+
+    /**
+     * @return The total amount of pending forms across all players
+     */
+    public int size() {
+        int size = 0;
+        for (Deque<PendingForm<?>> forms : pending.values()) {
+            synchronized (forms) {
+                size += forms.size();
+            }
+        }
+        return size;
+    }
+
+    /**
+     * Releases the handlers of every pending form
+     * @return The amount of pending forms released
+     */
+    public int clear() {
+        int cleared = 0;
+        Iterator<Deque<PendingForm<?>>> iterator = pending.values().iterator();
+        while (iterator.hasNext()) {
+            Deque<PendingForm<?>> forms = iterator.next();
+            iterator.remove();
+            synchronized (forms) {
+                cleared += forms.size();
+                forms.forEach(PendingForm::discard);
+            }
+        }
+        return cleared;
+    }
+
+    /**
+     * Releases the handlers of any forms that have timed out. Every player is only checked at most once per timeout.
+     */
+    private void sweep(long now) {
+        long timeout = this.timeout;
+        if (timeout <= 0 || now - lastSweep < timeout) {
+            return;
+        }
+        lastSweep = now;
+
+        int expired = 0;
+        for (Deque<PendingForm<?>> forms : pending.values()) {
+            synchronized (forms) {
+                // forms are ordered by the time they were sent
+                while (!forms.isEmpty() && isExpired(forms.peekFirst(), now)) {
+                    forms.removeFirst().discard();
+                    expired++;
+                }
+            }
+        }
+        // players without pending forms are removed when they leave, so that this doesn't race with track
+        if (expired > 0) {
+            Logger.get().debug("Discarded " + expired + " pending forms that timed out");
+        }
+    }
+
+    boolean isExpired(PendingForm<?> form, long now) {
+        long timeout = this.timeout;
+        return timeout > 0 && now - form.getSent() > timeout;
+    }
+
+    void remove(PendingForm<?> form) {
+        Deque<PendingForm<?>> forms = pending.get(form.getPlayer());
+        if (forms != null) {
+            synchronized (forms) {
+                forms.remove(form);
+            }
+        }
+    }
+
+    void logDiscarded(PendingForm<?> form, String reason) {
+        Logger logger = Logger.get();
+        if (logger.isDebug()) {
+            logger.info("Ignoring any response to form " + form.getIdentifier() + " sent to " + form.getPlayer() + " because " + reason);
+        }
+    }
+}
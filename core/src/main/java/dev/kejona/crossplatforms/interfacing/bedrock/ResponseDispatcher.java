@@ -0,0 +1,165 @@
+package dev.kejona.crossplatforms.interfacing.bedrock;
+
+import dev.kejona.crossplatforms.Logger;
+import lombok.Getter;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands form response handlers off to the thread that the server API must be accessed on. Rather than scheduling a
+ * task per response, handlers are queued and a single task drains the queue. Each drain stops once its time budget
+ * is spent, and any remaining handlers are carried over to another scheduled drain.
+ * <p>
+ * Handlers are run in the order they are dispatched, so the order of any one player's handlers is preserved.
+ * <p>
+ * Coalescing only makes sense if the executor hands runnables off to another thread. Otherwise, whichever thread
+ * dispatched first would end up running the handlers of every other player, so {@link #direct()} should be used.
+ */
+public class ResponseDispatcher {
+
+    public static final long DEFAULT_BUDGET = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+
+    /**
+     * True if a drain has been scheduled and has not yet emptied the queue
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    /**
+     * The executor to drain the queue with, or null if handlers are run immediately
+     */
+    @Nullable
+    private final Executor executor;
+
+    /**
+     * The maximum time, in nanoseconds, to spend running handlers per drain
+     */
+    @Getter
+    private final long budget;
+
+    /**
+     * @param executor Executes runnables on the thread that response handlers must be run on,
+     *                 e.g. {@link dev.kejona.crossplatforms.handler.ServerHandler#executeSafely(Runnable)}
+     */
+    public ResponseDispatcher(@Nonnull Executor executor) {
+        this(executor, DEFAULT_BUDGET);
+    }
+
+    /**
+     * @param executor Executes runnables on the thread that response handlers must be run on
+     * @param budget The maximum time, in nanoseconds, to spend running handlers per drain. At least one handler is
+     *               run per drain regardless.
+     */
+    public ResponseDispatcher(@Nonnull Executor executor, long budget) {
+        this.executor = executor;
+        this.budget = budget;
+    }
+
+    private ResponseDispatcher() {
+        this.executor = null;
+        this.budget = 0;
+    }
+
+    /**
+     * @return a dispatcher that runs each handler immediately, on the thread that dispatches it
+     */
+    public static ResponseDispatcher direct() {
+        return new ResponseDispatcher();
+    }
+
+    /**
+     * Queues a handler to be run by the next drain, scheduling a drain if there is none pending.
+     * May be called from any thread.
+     */
+    public void dispatch(@Nonnull Runnable handler) {
+        if (executor == null) {
+            run(handler);
+            return;
+        }
+
+        queue.add(handler);
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    /**
+     * @return the amount of handlers waiting to be run
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    private void drain() {
+        long deadline = System.nanoTime() + budget;
+        while (true) {
+            Runnable handler = queue.poll();
+            if (handler == null) {
+                scheduled.set(false);
+                // a handler may have been queued after the poll but before the flag was cleared,
+                // in which case the dispatching thread saw the flag set and didn't schedule a drain
+                if (queue.isEmpty() || !scheduled.compareAndSet(false, true)) {
+                    return;
+                }
+                continue;
+            }
+
+            run(handler);
+
+            if (System.nanoTime() - deadline >= 0 && !queue.isEmpty()) {
+                // carry the rest over, still flagged as scheduled
+                Logger.get().debug("Deferring " + queue.size() + " form response handlers to the next drain");
+                CarriedDrain carried = new CarriedDrain();
+                executor.execute(carried);
+                if (carried.deferred()) {
+                    return;
+                }
+                // the executor didn't actually defer the drain, so keep going here rather than recursing
+                deadline = System.nanoTime() + budget;
+            }
+        }
+    }
+
+    /**
+     * Drains the queue once handed back by the executor, unless the executor ran it before returning
+     */
+    private final class CarriedDrain implements Runnable {
+
+        private static final int PENDING = 0;
+        private static final int RAN_EARLY = 1;
+        private static final int DEFERRED = 2;
+
+        private final AtomicInteger state = new AtomicInteger(PENDING);
+
+        @Override
+        public void run() {
+            if (!state.compareAndSet(PENDING, RAN_EARLY)) {
+                drain();
+            }
+        }
+
+        /**
+         * @return true if the drain will run later, false if the caller must continue draining itself
+         */
+        private boolean deferred() {
+            return state.compareAndSet(PENDING, DEFERRED);
+        }
+    }
+
+    private static void run(Runnable handler) {
+        try {
+            handler.run();
+        } catch (Throwable e) {
+            Logger.get().severe("Exception while executing form response handler: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+}
@@ -21,9 +21,14 @@ public abstract class AbstractComponent<C extends CustomComponent> extends Custo
     @Override
     public abstract C copy();
 
+    @Override
+    protected C preparableCopy() {
+        return copy();
+    }
+
     @Override
     public final C preparedCopy(PlayerContext context) {
-        C copy = copy();
+        C copy = preparableCopy();
         copy.prepare(context);
         return copy;
     }
@@ -11,6 +11,7 @@ import dev.kejona.crossplatforms.resolver.Resolver;
 import dev.kejona.crossplatforms.serialize.KeyedType;
 import lombok.ToString;
 import org.geysermc.cumulus.form.CustomForm;
+import org.geysermc.cumulus.response.CustomFormResponse;
 import org.geysermc.cumulus.util.FormImage;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
@@ -50,38 +51,57 @@ public class CustomBedrockForm extends BedrockForm implements KeyedType {
             return;
         }
 
-        CustomForm.Builder builder = CustomForm.builder().title(resolver.apply(super.getTitle()));
+        // Resolve everything that requires the server API on this thread
+        Resolver render = resolver.memoized();
+        String title = render.apply(titleTemplate());
+        FormImage image = createFormImage(render.apply(this.image));
+
+        List<CustomComponent> formatted = new ArrayList<>(components.size());
+        List<Boolean> shown = new ArrayList<>(components.size());
+        PlayerContext context = new PlayerContext(player, render);
+        for (CustomComponent component : this.components) {
+            // resolve placeholders
+            CustomComponent prepared = component.preparedCopy(context);
+            formatted.add(prepared);
+            shown.add(prepared.show());
+        }
+
+        // Building and sending the form doesn't need the server API
+        serverHandler.executeAsync(uuid, () -> build(player, resolver, title, image, formatted, shown));
+    }
 
-        FormImage image = createFormImage(resolver.apply(this.image));
+    private void build(FormPlayer player,
+                       Resolver resolver,
+                       String title,
+                       @Nullable FormImage image,
+                       List<CustomComponent> formatted,
+                       List<Boolean> shown) {
+        Logger logger = Logger.get();
+        CustomForm.Builder builder = CustomForm.builder().title(title);
         if (image != null) {
             // cleanup when cumulus gets CustomForm.Builder#icon(@Nullable FormImage) method
             builder.icon(image.type(), image.data());
         }
 
-        // Setup and add components
-        List<CustomComponent> formatted = new ArrayList<>();
+        // Add components
+        int index = 0;
         try {
-            PlayerContext context = new PlayerContext(player, resolver); // todo: move upwards
-            for (CustomComponent component : this.components) {
-                // resolve placeholders
-                CustomComponent prepared = component.preparedCopy(context);
-                formatted.add(prepared);
-
-                // add component to form
-                builder.optionalComponent(prepared.cumulusComponent(), prepared.show());
+            for (; index < formatted.size(); index++) {
+                builder.optionalComponent(formatted.get(index).cumulusComponent(), shown.get(index));
             }
         } catch (IllegalValueException e) {
             player.warn("There was an error sending a form to you.");
-            logger.severe("Failed to send form " + identifier + " to " + player.getName() + " because the " + e.identifier() + " of component " + (components.size() - 1) + " was '" + e.value() + "' and could not be converted to a " + e.expectedType());
+            logger.severe("Failed to send form " + identifier + " to " + player.getName() + " because the " + e.identifier() + " of component " + index + " was '" + e.value() + "' and could not be converted to a " + e.expectedType());
             return;
         }
 
-        builder.closedOrInvalidResultHandler((result) -> handleIncorrect(player, resolver, result));
-
-        builder.validResultHandler((form, response) -> executeHandler(() -> {
+        // Validation and parsing is done on the thread that delivered the response.
+        // Only parsers that may access the server API, and the actions, are left to the response handler.
+        Responder<CustomFormResponse> responder = track(player, resolver, response -> {
             response.includeLabels(true); // allow label to be used as result placeholder
 
             Map<String, String> resultPlaceholders = new HashMap<>();
+            Map<Integer, String> unparsed = null;
             for (int i = 0; i < formatted.size(); i++) {
                 CustomComponent component = formatted.get(i);
                 Object result = response.valueAt(i);
@@ -93,24 +113,46 @@ public class CustomBedrockForm extends BedrockForm implements KeyedType {
                 } else {
                     value = result.toString();
                 }
-                resultPlaceholders.put(placeholder(i), component.parse(player, value));
-            }
 
-            if (logger.isDebug()) {
-                logger.info("Placeholder results for CustomForm " + getTitle());
-                for (Map.Entry<String, String> entry : resultPlaceholders.entrySet()) {
-                    logger.info(entry.getKey() + ": " + entry.getValue());
+                if (component.isParseThreadSafe()) {
+                    resultPlaceholders.put(placeholder(i), component.parse(player, value));
+                } else {
+                    if (unparsed == null) {
+                        unparsed = new HashMap<>();
+                    }
+                    unparsed.put(i, value);
                 }
             }
 
-            Resolver subResolver = new MapResolver(resultPlaceholders).then(resolver);
+            Map<Integer, String> remaining = unparsed;
+            executeHandler(() -> {
+                if (remaining != null) {
+                    for (Map.Entry<Integer, String> entry : remaining.entrySet()) {
+                        int i = entry.getKey();
+                        resultPlaceholders.put(placeholder(i), formatted.get(i).parse(player, entry.getValue()));
+                    }
+                }
+
+                if (logger.isDebug()) {
+                    logger.info("Placeholder results for CustomForm " + getTitle());
+                    for (Map.Entry<String, String> entry : resultPlaceholders.entrySet()) {
+                        logger.info(entry.getKey() + ": " + entry.getValue());
+                    }
+                }
+
+                Resolver subResolver = new MapResolver(resultPlaceholders).then(resolver);
+
+                // Handle effects of pressing the button
+                Action.affectPlayer(player, actions, subResolver, this);
+            });
+        });
 
-            // Handle effects of pressing the button
-            Action.affectPlayer(player, actions, subResolver, this);
-        }));
+        // only the responder is referenced by the form, until it is responded to
+        builder.closedOrInvalidResultHandler(responder::incorrect);
+        builder.validResultHandler(responder::valid);
 
         // Send the form to the floodgate player
-        bedrockHandler.sendForm(uuid, builder.build());
+        bedrockHandler.sendForm(player.getUuid(), builder.build());
     }
 
     private static String placeholder(int i) {
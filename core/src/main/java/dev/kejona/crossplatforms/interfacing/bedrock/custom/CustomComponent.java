@@ -7,7 +7,9 @@ import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.interfacing.bedrock.OptionalElement;
 import dev.kejona.crossplatforms.parser.Parser;
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
 import dev.kejona.crossplatforms.serialize.KeyedType;
+import dev.kejona.crossplatforms.utils.StringUtils;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -17,7 +19,6 @@ import javax.annotation.Nonnull;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
-import java.util.stream.Collectors;
 
 @ToString(callSuper = true)
 public abstract class CustomComponent extends OptionalElement implements KeyedType {
@@ -47,6 +48,15 @@ public abstract class CustomComponent extends OptionalElement implements KeyedTy
 
     public abstract CustomComponent copy();
 
+    /**
+     * Creates a copy of this component for {@link #prepare(PlayerContext)} to be called on. The copy may share
+     * collections with this component, since preparing only ever replaces them. If not overridden, this simply
+     * returns {@link #copy()}.
+     */
+    protected CustomComponent preparableCopy() {
+        return copy();
+    }
+
     public abstract CustomComponent preparedCopy(PlayerContext context);
 
     public abstract Component cumulusComponent() throws IllegalValueException;
@@ -62,10 +72,38 @@ public abstract class CustomComponent extends OptionalElement implements KeyedTy
         this.mode = source.mode;
     }
 
+    /**
+     * Shares the data of a source {@link CustomComponent} or any of its parent classes with this Component, without
+     * copying collections. Should only be used for {@link #preparableCopy()}.
+     */
+    protected final void shareBasics(CustomComponent source) {
+        this.text = source.text;
+        this.parsers = source.parsers;
+        this.shouldShow = source.shouldShow;
+        this.stripFormatting = source.stripFormatting;
+        this.mode = source.mode;
+    }
+
+    /**
+     * Resolves the placeholders of this component. Collections must be replaced rather than modified, and should
+     * only be replaced if they actually contain placeholders.
+     */
     public void prepare(@Nonnull PlayerContext context) {
         Resolver resolver = context.resolver();
-        text = resolver.apply(text);
-        shouldShow = shouldShow.stream().map(resolver).collect(Collectors.toList());
+        text = resolve(resolver, text);
+        if (!hasStaticConditions()) {
+            shouldShow = resolver.apply(shouldShow);
+        }
+    }
+
+    /**
+     * @return the String with placeholders resolved, or the same String if it can't contain any placeholders
+     */
+    protected static String resolve(Resolver resolver, String s) {
+        if (StringUtils.hasChar(s, Template.DELIMITER)) {
+            return resolver.apply(s);
+        }
+        return s;
     }
 
     /**
@@ -82,6 +120,19 @@ public abstract class CustomComponent extends OptionalElement implements KeyedTy
         return value;
     }
 
+    /**
+     * @return true if {@link #parse(FormPlayer, String)} may be called off of the thread that the server API must be
+     * accessed on, which is the case if all of its parsers are {@link Parser#isThreadSafe() thread safe}.
+     */
+    public boolean isParseThreadSafe() {
+        for (Parser parser : parsers) {
+            if (!parser.isThreadSafe()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     @Nonnull
     public abstract String resultIfHidden();
 
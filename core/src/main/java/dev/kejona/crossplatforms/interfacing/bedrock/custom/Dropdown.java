@@ -42,11 +42,21 @@ public class Dropdown extends AbstractComponent<Dropdown> {
 
     @Override
     public Dropdown copy() {
-        Dropdown dropdown = new Dropdown();
+        Dropdown dropdown = preparableCopy();
         dropdown.copyBasics(this);
         dropdown.options = new ArrayList<>(this.options);
-        dropdown.defaultOption = this.defaultOption;
         dropdown.fillers = new ArrayList<>(fillers);
+        return dropdown;
+    }
+
+    @Override
+    protected Dropdown preparableCopy() {
+        // options are only copied by prepare if there are fillers or placeholders
+        Dropdown dropdown = new Dropdown();
+        dropdown.shareBasics(this);
+        dropdown.options = this.options;
+        dropdown.defaultOption = this.defaultOption;
+        dropdown.fillers = this.fillers;
         dropdown.returnText = this.returnText;
         return dropdown;
     }
@@ -64,14 +74,17 @@ public class Dropdown extends AbstractComponent<Dropdown> {
     public void prepare(@Nonnull PlayerContext context) {
         super.prepare(context);
         // apply fillers
-        for (OptionFiller filler : fillers) {
-            filler.fillOptions(options, context);
+        if (!fillers.isEmpty()) {
+            options = new ArrayList<>(options);
+            for (OptionFiller filler : fillers) {
+                filler.fillOptions(options, context);
+            }
         }
 
         // apply placeholders
         Resolver resolver = context.resolver();
-        options = options.stream().map(o -> o.with(resolver)).collect(Collectors.toList());
-        defaultOption = resolver.apply(defaultOption);
+        options = Option.with(options, resolver);
+        defaultOption = resolve(resolver, defaultOption);
     }
 
     @Nonnull
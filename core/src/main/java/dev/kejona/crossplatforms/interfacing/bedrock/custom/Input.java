@@ -40,8 +40,15 @@ public class Input extends AbstractComponent<Input> {
 
     @Override
     public Input copy() {
-        Input input = new Input();
+        Input input = preparableCopy();
         input.copyBasics(this);
+        return input;
+    }
+
+    @Override
+    protected Input preparableCopy() {
+        Input input = new Input();
+        input.shareBasics(this);
         input.placeholder = this.placeholder;
         input.defaultText = this.defaultText;
         return input;
@@ -55,8 +62,8 @@ public class Input extends AbstractComponent<Input> {
     @Override
     public void prepare(@Nonnull PlayerContext context) {
         super.prepare(context);
-        placeholder = context.resolver().apply(placeholder);
-        defaultText = context.resolver().apply(defaultText);
+        placeholder = resolve(context.resolver(), placeholder);
+        defaultText = resolve(context.resolver(), defaultText);
     }
 
     @Override
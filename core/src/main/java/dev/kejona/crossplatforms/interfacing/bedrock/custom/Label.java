@@ -26,6 +26,13 @@ public class Label extends AbstractComponent<Label> {
         return label;
     }
 
+    @Override
+    protected Label preparableCopy() {
+        Label label = new Label();
+        label.shareBasics(this);
+        return label;
+    }
+
     @Override
     public Component cumulusComponent() {
         return LabelComponent.of(text);
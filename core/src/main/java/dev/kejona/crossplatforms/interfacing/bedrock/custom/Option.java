@@ -1,10 +1,14 @@
 package dev.kejona.crossplatforms.interfacing.bedrock.custom;
 
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
+import dev.kejona.crossplatforms.utils.StringUtils;
 import org.jetbrains.annotations.Contract;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
 
 public class Option {
 
@@ -25,8 +29,14 @@ public class Option {
         this.returnText = returnText;
     }
 
-    @Contract(value = "_ -> new", pure = true)
+    /**
+     * @return An option with placeholders resolved, or this option if it doesn't contain any placeholders
+     */
+    @Contract(pure = true)
     public Option with(@Nonnull Resolver resolver) {
+        if (isStatic()) {
+            return this;
+        }
         if (returnText == null) {
             return new Option(resolver.apply(display));
         } else {
@@ -34,6 +44,37 @@ public class Option {
         }
     }
 
+    /**
+     * Resolves the placeholders of a list of options. The list is only copied if an option has placeholders.
+     * @return The given list if no option has placeholders, otherwise a new list
+     */
+    @Contract(pure = true)
+    public static List<Option> with(@Nonnull List<Option> options, @Nonnull Resolver resolver) {
+        List<Option> resolved = null;
+        for (int i = 0; i < options.size(); i++) {
+            Option option = options.get(i);
+            if (option.isStatic()) {
+                if (resolved != null) {
+                    resolved.add(option);
+                }
+                continue;
+            }
+
+            if (resolved == null) {
+                // copy the options up until this one
+                resolved = new ArrayList<>(options.size());
+                resolved.addAll(options.subList(0, i));
+            }
+            resolved.add(option.with(resolver));
+        }
+        return resolved == null ? options : resolved;
+    }
+
+    private boolean isStatic() {
+        return !StringUtils.hasChar(display, Template.DELIMITER)
+            && (returnText == null || !StringUtils.hasChar(returnText, Template.DELIMITER));
+    }
+
     @Nonnull
     public String display() {
         return display;
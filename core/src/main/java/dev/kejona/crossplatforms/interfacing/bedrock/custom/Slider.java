@@ -33,8 +33,15 @@ public class Slider extends AbstractComponent<Slider> {
 
     @Override
     public Slider copy() {
-        Slider slider = new Slider();
+        Slider slider = preparableCopy();
         slider.copyBasics(this);
+        return slider;
+    }
+
+    @Override
+    protected Slider preparableCopy() {
+        Slider slider = new Slider();
+        slider.shareBasics(this);
         slider.min = this.min;
         slider.max = this.max;
         slider.step = this.step;
@@ -57,10 +64,10 @@ public class Slider extends AbstractComponent<Slider> {
     public void prepare(@Nonnull PlayerContext context) {
         super.prepare(context);
         Resolver resolver = context.resolver();
-        min = resolver.apply(min);
-        max = resolver.apply(max);
-        step = resolver.apply(step);
-        defaultValue = resolver.apply(defaultValue);
+        min = resolve(resolver, min);
+        max = resolve(resolver, max);
+        step = resolve(resolver, step);
+        defaultValue = resolve(resolver, defaultValue);
     }
 
     @Nonnull
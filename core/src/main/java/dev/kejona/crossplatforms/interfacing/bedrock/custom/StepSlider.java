@@ -41,11 +41,21 @@ public class StepSlider extends AbstractComponent<StepSlider> {
 
     @Override
     public StepSlider copy() {
-        StepSlider stepSlider = new StepSlider();
+        StepSlider stepSlider = preparableCopy();
         stepSlider.copyBasics(this);
         stepSlider.steps = new ArrayList<>(steps);
-        stepSlider.defaultStep = this.defaultStep;
         stepSlider.fillers = new ArrayList<>(this.fillers);
+        return stepSlider;
+    }
+
+    @Override
+    protected StepSlider preparableCopy() {
+        // steps are only copied by prepare if there are fillers or placeholders
+        StepSlider stepSlider = new StepSlider();
+        stepSlider.shareBasics(this);
+        stepSlider.steps = this.steps;
+        stepSlider.defaultStep = this.defaultStep;
+        stepSlider.fillers = this.fillers;
         stepSlider.returnText = this.returnText;
         return stepSlider;
     }
@@ -63,14 +73,17 @@ public class StepSlider extends AbstractComponent<StepSlider> {
     public void prepare(@Nonnull PlayerContext context) {
         super.prepare(context);
         // apply fillers
-        for (OptionFiller filler : fillers) {
-            filler.fillOptions(steps, context);
+        if (!fillers.isEmpty()) {
+            steps = new ArrayList<>(steps);
+            for (OptionFiller filler : fillers) {
+                filler.fillOptions(steps, context);
+            }
         }
 
         // apply placeholders
         Resolver resolver = context.resolver();
-        steps = steps.stream().map(o -> o.with(resolver)).collect(Collectors.toList());
-        defaultStep = resolver.apply(defaultStep);
+        steps = Option.with(steps, resolver);
+        defaultStep = resolve(resolver, defaultStep);
     }
 
     @Nonnull
@@ -33,13 +33,20 @@ public class Toggle extends AbstractComponent<Toggle> {
     @Override
     public void prepare(@Nonnull PlayerContext context) {
         super.prepare(context);
-        defaultValue = context.resolver().apply(defaultValue);
+        defaultValue = resolve(context.resolver(), defaultValue);
     }
 
     @Override
     public Toggle copy() {
-        Toggle toggle = new Toggle();
+        Toggle toggle = preparableCopy();
         toggle.copyBasics(this);
+        return toggle;
+    }
+
+    @Override
+    protected Toggle preparableCopy() {
+        Toggle toggle = new Toggle();
+        toggle.shareBasics(this);
         toggle.defaultValue = this.defaultValue;
         return toggle;
     }
@@ -3,14 +3,20 @@ package dev.kejona.crossplatforms.interfacing.bedrock.modal;
 import dev.kejona.crossplatforms.Logger;
 import dev.kejona.crossplatforms.action.Action;
 import dev.kejona.crossplatforms.handler.FormPlayer;
+import dev.kejona.crossplatforms.interfacing.RenderCache;
 import dev.kejona.crossplatforms.interfacing.bedrock.BedrockForm;
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
 import lombok.ToString;
+import lombok.Value;
 import org.geysermc.cumulus.form.ModalForm;
+import org.geysermc.cumulus.response.ModalFormResponse;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 import org.spongepowered.configurate.objectmapping.meta.Required;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,6 +29,23 @@ public class ModalBedrockForm extends BedrockForm {
 
     private String content = "";
 
+    @ToString.Exclude
+    private transient Template contentTemplate;
+
+    /**
+     * Text that was prepared at load time, if this form is static.
+     */
+    @ToString.Exclude
+    @Nullable
+    private transient Rendered prebuilt;
+
+    /**
+     * The last output per player, if caching is enabled.
+     */
+    @ToString.Exclude
+    @Nullable
+    private transient RenderCache<Rendered> renderCache;
+
     @Required
     private ModalButton button1 = null;
 
@@ -34,6 +57,27 @@ public class ModalBedrockForm extends BedrockForm {
         return TYPE;
     }
 
+    @Override
+    public boolean prebuild() {
+        prebuilt = null;
+        renderCache = null;
+        if (titleTemplate().isStatic() && contentTemplate().isStatic() && button1.textTemplate().isStatic() && button2.textTemplate().isStatic()) {
+            prebuilt = new Rendered(getTitle(), content, button1.getText(), button2.getText());
+            return true;
+        }
+
+        renderCache = RenderCache.create(cacheTtl(), Arrays.asList(titleTemplate(), contentTemplate(), button1.textTemplate(), button2.textTemplate()));
+        return false;
+    }
+
+    @Override
+    public void invalidate(@Nonnull UUID uuid) {
+        RenderCache<Rendered> renderCache = this.renderCache;
+        if (renderCache != null) {
+            renderCache.invalidate(uuid);
+        }
+    }
+
     @Override
     public void send(@Nonnull FormPlayer player, @Nonnull Resolver resolver) {
         Logger logger = Logger.get();
@@ -44,29 +88,79 @@ public class ModalBedrockForm extends BedrockForm {
             return;
         }
 
-        ModalForm form = ModalForm.builder()
-            .title(resolver.apply(getTitle()))
-            .content(resolver.apply(content))
-            .button1(resolver.apply(button1.getText()))
-            .button2(resolver.apply(button2.getText()))
-            .closedOrInvalidResultHandler((result) -> handleIncorrect(player, resolver, result))
-            .validResultHandler(response -> executeHandler(() -> {
-                int id = response.clickedButtonId();
-                List<Action<? super ModalBedrockForm>> actions;
-                if (id == 0) {
-                    actions = button1.getActions();
-                } else if (id == 1) {
-                    actions = button2.getActions();
-                } else {
-                    throw new AssertionError("Got " + id + " from modal form response instead of 0 or 1");
+        Rendered rendered = this.prebuilt; // if prebuilt, nothing to resolve. only the response handlers are specific to this player
+        if (rendered == null) {
+            Resolver render = resolver.memoized();
+            RenderCache<Rendered> renderCache = this.renderCache;
+            List<String> fingerprint = null;
+            if (renderCache != null) {
+                fingerprint = renderCache.fingerprint(render);
+                rendered = renderCache.get(uuid, fingerprint);
+            }
+
+            if (rendered == null) {
+                rendered = new Rendered(
+                    render.apply(titleTemplate()),
+                    render.apply(contentTemplate()),
+                    render.apply(button1.textTemplate()),
+                    render.apply(button2.textTemplate())
+                );
+                if (renderCache != null) {
+                    renderCache.put(uuid, fingerprint, rendered);
                 }
+            }
+        }
+
+        // Building and sending the form doesn't need the server API
+        Rendered snapshot = rendered;
+        serverHandler.executeAsync(uuid, () -> sendRendered(player, resolver, snapshot));
+    }
+
+    private void sendRendered(FormPlayer player, Resolver resolver, Rendered rendered) {
+        Responder<ModalFormResponse> responder = track(player, resolver, response -> {
+            int id = response.clickedButtonId();
+            List<Action<? super ModalBedrockForm>> actions;
+            if (id == 0) {
+                actions = button1.getActions();
+            } else if (id == 1) {
+                actions = button2.getActions();
+            } else {
+                throw new AssertionError("Got " + id + " from modal form response instead of 0 or 1");
+            }
+
+            // Handle effects of pressing the button
+            executeHandler(() -> Action.affectPlayer(player, actions, resolver, this));
+        });
 
-                // Handle effects of pressing the button
-                Action.affectPlayer(player, actions, resolver, this);
-            }))
+        // only the responder is referenced by the form, until it is responded to
+        ModalForm form = ModalForm.builder()
+            .title(rendered.title)
+            .content(rendered.content)
+            .button1(rendered.button1)
+            .button2(rendered.button2)
+            .closedOrInvalidResultHandler(responder::incorrect)
+            .validResultHandler(responder::valid)
             .build();
 
         // Send the form to the floodgate player
-        bedrockHandler.sendForm(uuid, form);
+        bedrockHandler.sendForm(player.getUuid(), form);
+    }
+
+    private Template contentTemplate() {
+        if (contentTemplate == null) {
+            contentTemplate = Template.compile(content);
+        }
+        return contentTemplate;
+    }
+
+    /**
+     * The text of this form with all placeholders resolved
+     */
+    @Value
+    private static class Rendered {
+        String title;
+        String content;
+        String button1;
+        String button2;
     }
 }
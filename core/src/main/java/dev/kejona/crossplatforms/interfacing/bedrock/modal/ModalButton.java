@@ -1,6 +1,8 @@
 package dev.kejona.crossplatforms.interfacing.bedrock.modal;
 
 import dev.kejona.crossplatforms.action.Action;
+import dev.kejona.crossplatforms.resolver.Template;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.ToString;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
@@ -19,4 +21,15 @@ public class ModalButton {
     private String text = null;
 
     private List<Action<? super ModalBedrockForm>> actions = Collections.emptyList();
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private transient Template textTemplate;
+
+    Template textTemplate() {
+        if (textTemplate == null) {
+            textTemplate = Template.compile(text);
+        }
+        return textTemplate;
+    }
 }
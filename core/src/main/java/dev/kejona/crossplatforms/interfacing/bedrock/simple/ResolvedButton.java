@@ -0,0 +1,25 @@
+package dev.kejona.crossplatforms.interfacing.bedrock.simple;
+
+import lombok.Value;
+import org.geysermc.cumulus.form.SimpleForm;
+import org.geysermc.cumulus.util.FormImage;
+
+import javax.annotation.Nullable;
+
+/**
+ * A {@link SimpleButton} with all of its placeholders resolved
+ */
+@Value
+class ResolvedButton {
+
+    String text;
+
+    @Nullable
+    FormImage image;
+
+    boolean show;
+
+    void addTo(SimpleForm.Builder form) {
+        form.optionalButton(text, image, show);
+    }
+}
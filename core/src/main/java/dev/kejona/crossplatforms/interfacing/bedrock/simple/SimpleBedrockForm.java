@@ -2,15 +2,20 @@ package dev.kejona.crossplatforms.interfacing.bedrock.simple;
 
 import dev.kejona.crossplatforms.Logger;
 import dev.kejona.crossplatforms.context.PlayerContext;
+import dev.kejona.crossplatforms.interfacing.RenderCache;
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
 import dev.kejona.crossplatforms.filler.SimpleFormFiller;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.interfacing.bedrock.BedrockForm;
 import lombok.ToString;
+import lombok.Value;
 import org.geysermc.cumulus.form.SimpleForm;
+import org.geysermc.cumulus.response.SimpleFormResponse;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -27,11 +32,67 @@ public class SimpleBedrockForm extends BedrockForm {
     private List<SimpleButton> buttons = Collections.emptyList();
     private List<SimpleFormFiller> fillers = Collections.emptyList();
 
+    @ToString.Exclude
+    private transient Template contentTemplate;
+
+    /**
+     * Title, content and buttons that were prepared at load time, if this form is static.
+     */
+    @ToString.Exclude
+    @Nullable
+    private transient Rendered prebuilt;
+
+    /**
+     * The last output per player, if caching is enabled and the form does not use fillers.
+     */
+    @ToString.Exclude
+    @Nullable
+    private transient RenderCache<Rendered> renderCache;
+
     @Override
     public String type() {
         return TYPE;
     }
 
+    @Override
+    public boolean prebuild() {
+        prebuilt = null;
+        renderCache = null;
+        if (!fillers.isEmpty()) {
+            // buttons generated by fillers don't depend on placeholders alone
+            return false;
+        }
+
+        List<Template> templates = new ArrayList<>();
+        templates.add(titleTemplate());
+        templates.add(contentTemplate());
+        boolean isStatic = titleTemplate().isStatic() && contentTemplate().isStatic();
+        for (SimpleButton button : buttons) {
+            templates.addAll(button.templates());
+            isStatic &= button.isStatic();
+        }
+
+        if (isStatic) {
+            List<ResolvedButton> resolvedButtons = new ArrayList<>(buttons.size());
+            for (SimpleButton button : buttons) {
+                resolvedButtons.add(button.staticCopy());
+            }
+            prebuilt = new Rendered(getTitle(), content, Collections.unmodifiableList(resolvedButtons));
+            return true;
+        }
+
+        renderCache = RenderCache.create(cacheTtl(), templates);
+        return false;
+    }
+
+    @Override
+    public void invalidate(@Nonnull UUID uuid) {
+        RenderCache<Rendered> renderCache = this.renderCache;
+        if (renderCache != null) {
+            renderCache.invalidate(uuid);
+        }
+    }
+
     @Override
     public void send(@Nonnull FormPlayer player, @Nonnull Resolver resolver) {
         Logger logger = Logger.get();
@@ -41,31 +102,105 @@ public class SimpleBedrockForm extends BedrockForm {
             return;
         }
 
-        SimpleForm.Builder form = SimpleForm.builder()
-            .title(resolver.apply(getTitle()))
-            .content(resolver.apply(content));
+        Rendered prebuilt = this.prebuilt;
+
+        // Resolve everything that requires the server API on this thread
+        Rendered rendered;
+        List<SimpleButton> buttons;
+        if (prebuilt != null) {
+            // nothing to resolve, only the response handlers are specific to this player
+            rendered = prebuilt;
+            buttons = this.buttons;
+        } else if (fillers.isEmpty()) {
+            rendered = render(player, resolver);
+            buttons = this.buttons;
+        } else {
+            // make a copy of the buttons
+            buttons = new ArrayList<>(this.buttons);
+
+            // fill the copy with additional buttons
+            PlayerContext context = new PlayerContext(player, resolver);
+            for (SimpleFormFiller filler : fillers) {
+                filler.fillButtons(buttons, context);
+            }
+            rendered = render(resolver.memoized(), buttons);
+        }
+
+        // Building and sending the form doesn't need the server API
+        serverHandler.executeAsync(uuid, () -> sendWithHandlers(player, resolver, rendered.builder(), buttons));
+    }
 
-        // make a copy of the buttons
-        List<SimpleButton> buttons = new ArrayList<>(this.buttons);
+    /**
+     * Renders the configured buttons, reusing the last output for the player if it is cached and still valid.
+     */
+    private Rendered render(FormPlayer player, Resolver resolver) {
+        // each distinct placeholder in the form is only evaluated once while building it
+        Resolver render = resolver.memoized();
 
-        // fill the copy with additional buttons
-        PlayerContext context = new PlayerContext(player, resolver);
-        for (SimpleFormFiller filler : fillers) {
-            filler.fillButtons(buttons, context);
+        RenderCache<Rendered> renderCache = this.renderCache;
+        if (renderCache == null) {
+            return render(render, buttons);
         }
 
-        // resolve relevant placeholders and add it to the form
-        buttons.forEach(button -> button.addTo(form, resolver));
+        UUID uuid = player.getUuid();
+        List<String> fingerprint = renderCache.fingerprint(render);
+        Rendered rendered = renderCache.get(uuid, fingerprint);
+        if (rendered == null) {
+            rendered = render(render, buttons);
+            renderCache.put(uuid, fingerprint, rendered);
+        } else {
+            Logger.get().debug("Reusing rendered form " + identifier + " for " + player.getName());
+        }
+        return rendered;
+    }
 
-        // actions for incorrect response (closed or invalid response)
-        form.closedOrInvalidResultHandler((result) -> handleIncorrect(player, resolver, result));
+    private Rendered render(Resolver render, List<SimpleButton> buttons) {
+        List<ResolvedButton> resolvedButtons = new ArrayList<>(buttons.size());
+        for (SimpleButton button : buttons) {
+            resolvedButtons.add(button.resolve(render));
+        }
+        return new Rendered(render.apply(titleTemplate()), render.apply(contentTemplate()), resolvedButtons);
+    }
 
+    private void sendWithHandlers(FormPlayer player, Resolver resolver, SimpleForm.Builder form, List<SimpleButton> buttons) {
         // actions for correct response
-        form.validResultHandler(response -> executeHandler(
-            () -> buttons.get(response.clickedButtonId()).click(player, this, resolver)
-        ));
+        Responder<SimpleFormResponse> responder = track(player, resolver, response -> {
+            SimpleButton button = buttons.get(response.clickedButtonId());
+            executeHandler(() -> button.click(player, this, resolver));
+        });
+
+        // only the responder is referenced by the form, until it is responded to
+        form.closedOrInvalidResultHandler(responder::incorrect);
+        form.validResultHandler(responder::valid);
 
         // Send the form to the floodgate player
-        bedrockHandler.sendForm(uuid, form.build());
+        bedrockHandler.sendForm(player.getUuid(), form.build());
+    }
+
+    private Template contentTemplate() {
+        if (contentTemplate == null) {
+            contentTemplate = Template.compile(content);
+        }
+        return contentTemplate;
+    }
+
+    /**
+     * The title, content and buttons of this form with all placeholders resolved
+     */
+    @Value
+    private static class Rendered {
+        String title;
+        String content;
+        List<ResolvedButton> buttons;
+
+        SimpleForm.Builder builder() {
+            SimpleForm.Builder form = SimpleForm.builder()
+                .title(title)
+                .content(content);
+            for (ResolvedButton button : buttons) {
+                button.addTo(form);
+            }
+            return form;
+        }
     }
 }
@@ -3,6 +3,7 @@ package dev.kejona.crossplatforms.interfacing.bedrock.simple;
 import dev.kejona.crossplatforms.handler.Placeholders;
 import dev.kejona.crossplatforms.resolver.MapResolver;
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
 import dev.kejona.crossplatforms.action.Action;
 import dev.kejona.crossplatforms.filler.SimpleFormFiller;
 import dev.kejona.crossplatforms.handler.FormPlayer;
@@ -19,6 +20,7 @@ import org.spongepowered.configurate.objectmapping.meta.Setting;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -43,6 +45,14 @@ public class SimpleButton extends OptionalElement {
     @Nullable
     private transient SimpleButton raw = null;
 
+    @ToString.Exclude
+    @Nullable
+    private transient Template textTemplate = null;
+
+    @ToString.Exclude
+    @Nullable
+    private transient Template imageTemplate = null;
+
     public SimpleButton(@Nonnull String text) {
         this.text = text;
     }
@@ -90,12 +100,14 @@ public class SimpleButton extends OptionalElement {
             copy.text = raw.text; // user did not override, use raw as text
         } else {
             copy.text = this.text;
+            copy.textTemplate = this.textTemplate(); // share the compiled form of the configured text
         }
 
         if (this.imageData == null) {
             copy.imageData = raw.imageData; // user did not override...
         } else {
             copy.imageData = this.imageData;
+            copy.imageTemplate = this.imageTemplate();
         }
 
         copy.actions = this.actions; // we don't support generated actions
@@ -104,7 +116,43 @@ public class SimpleButton extends OptionalElement {
         return copy;
     }
 
+    /**
+     * @return true if neither the display of this button nor whether it is shown depends on the player
+     */
+    boolean isStatic() {
+        if (raw != null) {
+            return false;
+        }
+        Template text = textTemplate();
+        Template image = imageTemplate();
+        return (text == null || text.isStatic()) && (image == null || image.isStatic()) && hasStaticConditions();
+    }
+
+    /**
+     * @return This button without resolving any placeholders. Only valid if this button {@link #isStatic()}
+     */
+    ResolvedButton staticCopy() {
+        return new ResolvedButton(getText(), BedrockForm.createFormImage(imageData), show());
+    }
+
+    /**
+     * @return the templates that the display of this button depends on
+     */
+    List<Template> templates() {
+        List<Template> templates = new ArrayList<>(2 + shouldShow.size());
+        templates.add(textTemplate());
+        templates.add(imageTemplate());
+        for (String expression : shouldShow) {
+            templates.add(Template.compile(expression));
+        }
+        return templates;
+    }
+
     public void addTo(SimpleForm.Builder form, Resolver baseResolver) {
+        resolve(baseResolver).addTo(form);
+    }
+
+    ResolvedButton resolve(Resolver baseResolver) {
         final Map<String, String> morePlaceholders = additionalPlaceholders();
         Resolver resolver = new MapResolver(morePlaceholders).then(baseResolver);
 
@@ -112,19 +160,35 @@ public class SimpleButton extends OptionalElement {
         if (text == null || text.isEmpty()) {
             display = "";
         } else {
-            display = resolver.apply(text);
+            display = resolver.apply(textTemplate());
         }
 
         FormImage image;
         if (imageData == null || imageData.isEmpty()) {
             image = null;
         } else {
-            image = BedrockForm.createFormImage(resolver.apply(imageData));
+            image = BedrockForm.createFormImage(resolver.apply(imageTemplate()));
         }
 
         boolean show = show(shouldShow.stream().map(resolver));
 
-        form.optionalButton(display, image, show);
+        return new ResolvedButton(display, image, show);
+    }
+
+    @Nullable
+    private Template textTemplate() {
+        if (textTemplate == null) {
+            textTemplate = Template.compile(text);
+        }
+        return textTemplate;
+    }
+
+    @Nullable
+    private Template imageTemplate() {
+        if (imageTemplate == null) {
+            imageTemplate = Template.compile(imageData);
+        }
+        return imageTemplate;
     }
 
     public void click(FormPlayer player, SimpleBedrockForm form, Resolver resolver) {
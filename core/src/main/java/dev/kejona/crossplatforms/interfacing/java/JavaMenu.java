@@ -2,22 +2,34 @@ package dev.kejona.crossplatforms.interfacing.java;
 
 import com.google.inject.Inject;
 import dev.kejona.crossplatforms.Constants;
+import dev.kejona.crossplatforms.Logger;
 import dev.kejona.crossplatforms.action.Action;
 import dev.kejona.crossplatforms.handler.FormPlayer;
+import dev.kejona.crossplatforms.handler.ServerHandler;
 import dev.kejona.crossplatforms.interfacing.Interface;
+import dev.kejona.crossplatforms.interfacing.RenderCache;
 import dev.kejona.crossplatforms.inventory.ClickHandler;
 import dev.kejona.crossplatforms.inventory.InventoryController;
 import dev.kejona.crossplatforms.inventory.InventoryFactory;
 import dev.kejona.crossplatforms.inventory.InventoryHandle;
 import dev.kejona.crossplatforms.inventory.InventoryLayout;
+import dev.kejona.crossplatforms.inventory.ItemHandle;
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.ToString;
+import lombok.Value;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 @ToString
 @Getter
@@ -36,6 +48,10 @@ public class JavaMenu extends Interface {
     protected transient InventoryFactory factory;
     @Inject
     protected transient InventoryController controller;
+    @Inject
+    protected transient MenuRefresher refresher;
+    @Inject
+    protected transient ServerHandler serverHandler;
 
     private boolean allowBedrock = false;
 
@@ -44,6 +60,40 @@ public class JavaMenu extends Interface {
 
     private Map<Integer, ItemButton> buttons = Collections.emptyMap();
 
+    /**
+     * How often (in milliseconds) the buttons with placeholders should be updated while the menu is open. 0 to disable.
+     */
+    private long refreshInterval = 0;
+
+    /**
+     * Lists more entries than fit in the menu across multiple pages. Null if the menu has a single page.
+     */
+    @Nullable
+    private MenuPages pages = null;
+
+    /**
+     * Items of the buttons without placeholders, built once and set in every inventory that is opened
+     */
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    private transient Map<Integer, ItemHandle> staticItems = Collections.emptyMap();
+
+    /**
+     * Buttons with placeholders, which are resolved for each player. Null if not yet classified.
+     */
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    @Nullable
+    private transient Map<Integer, ItemButton> dynamicButtons;
+
+    /**
+     * The last title and dynamic items per player, if caching is enabled.
+     */
+    @ToString.Exclude
+    @Getter(AccessLevel.NONE)
+    @Nullable
+    private transient RenderCache<Rendered> renderCache;
+
     /**
      * @param slot The inventory slot
      * @return If there is a button at the given inventory slot
@@ -52,9 +102,83 @@ public class JavaMenu extends Interface {
         return buttons.get(slot) != null;
     }
 
+    @Override
+    public boolean prebuild() {
+        Map<Integer, ItemHandle> staticItems = new HashMap<>();
+        Map<Integer, ItemButton> dynamicButtons = new HashMap<>();
+        List<Template> templates = new ArrayList<>();
+        templates.add(titleTemplate());
+        for (Map.Entry<Integer, ItemButton> entry : buttons.entrySet()) {
+            ItemButton button = entry.getValue();
+            if (button.isStatic()) {
+                staticItems.put(entry.getKey(), button.convert());
+            } else {
+                dynamicButtons.put(entry.getKey(), button);
+                templates.addAll(button.templates());
+            }
+        }
+        this.staticItems = staticItems;
+        this.dynamicButtons = dynamicButtons;
+        if (pages != null && pages.getFormat() == null && !pages.getFillers().isEmpty()) {
+            Logger.get().warn("Menu " + identifier + " has page fillers but no format, so nothing will be generated");
+        }
+        renderCache = RenderCache.create(cacheTtl(), templates);
+        return false; // the inventory itself is still created per player
+    }
+
+    @Override
+    public void invalidate(@Nonnull UUID uuid) {
+        RenderCache<Rendered> renderCache = this.renderCache;
+        if (renderCache != null) {
+            renderCache.invalidate(uuid);
+        }
+    }
+
     @Override
     public void send(@Nonnull FormPlayer recipient, @Nonnull Resolver resolver) {
-        String title = resolver.apply(this.title);
+        PageSession session = pages == null ? null : pages.session(recipient, resolver);
+        open(recipient, resolver, session, 0);
+    }
+
+    /**
+     * @param session The entries of the menu if it is paginated, otherwise null
+     * @param page The page to open, which must exist if paginated
+     */
+    private void open(FormPlayer recipient, Resolver resolver, @Nullable PageSession session, int page) {
+        // each distinct placeholder in the title and items is only evaluated once
+        Resolver render = resolver.memoized();
+
+        RenderCache<Rendered> renderCache = this.renderCache;
+        List<String> fingerprint = null;
+        Rendered rendered = null;
+        if (renderCache != null) {
+            fingerprint = renderCache.fingerprint(render);
+            rendered = renderCache.get(recipient.getUuid(), fingerprint);
+        }
+
+        Map<Integer, ItemButton> dynamicButtons = dynamicButtons();
+        if (rendered == null) {
+            Map<Integer, ItemHandle> items = new HashMap<>();
+            for (Map.Entry<Integer, ItemButton> entry : dynamicButtons.entrySet()) {
+                items.put(entry.getKey(), entry.getValue().convertAndResolve(render));
+            }
+            rendered = new Rendered(render.apply(titleTemplate()), items);
+            if (renderCache != null) {
+                renderCache.put(recipient.getUuid(), fingerprint, rendered);
+            }
+        }
+
+        String title;
+        Map<Integer, ItemHandle> pageItems;
+        if (session == null) {
+            title = rendered.title;
+            pageItems = Collections.emptyMap();
+        } else {
+            Resolver pageResolver = MenuPages.pageResolver(page, session.pageCount(), render);
+            title = pageResolver.apply(titleTemplate());
+            pageItems = session.render(page, pageResolver);
+        }
+
         InventoryHandle inventory;
         if (type == InventoryLayout.CHEST) {
             if (size == 5) {
@@ -68,28 +192,116 @@ public class JavaMenu extends Interface {
             inventory = factory.inventory(title, type);
         }
         // todo: size validation/restraint
-        for (Integer slot : buttons.keySet()) {
-            ItemButton button = buttons.get(slot);
-            inventory.setSlot(slot, button.convertAndResolve(resolver));
+        // the same static items are shared by every inventory, since inventories copy or never modify them
+        for (Map.Entry<Integer, ItemHandle> entry : staticItems.entrySet()) {
+            inventory.setSlot(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<Integer, ItemHandle> entry : rendered.items.entrySet()) {
+            inventory.setSlot(entry.getKey(), entry.getValue());
+        }
+        for (Map.Entry<Integer, ItemHandle> entry : pageItems.entrySet()) {
+            inventory.setSlot(entry.getKey(), entry.getValue());
         }
 
         ClickHandler clickHandler = (slot, rightClick) -> {
             if (isButton(slot)) {
-                ItemButton button = buttons.get(slot);
-
-                affectPlayer(recipient, button.getAnyClick(), resolver);
-                if (rightClick) {
-                    affectPlayer(recipient, button.getRightClick(), resolver);
-                } else {
-                    affectPlayer(recipient, button.getLeftClick(), resolver);
-                }
+                click(recipient, buttons.get(slot), rightClick, resolver);
+            } else if (session != null) {
+                clickPage(recipient, resolver, session, page, slot, rightClick);
             }
         };
 
         controller.openInventory(recipient, inventory, clickHandler);
+
+        if (refreshInterval > 0 && !dynamicButtons.isEmpty()) {
+            Map<Integer, List<String>> values = new HashMap<>();
+            for (Map.Entry<Integer, ItemButton> entry : dynamicButtons.entrySet()) {
+                values.put(entry.getKey(), render.applyTemplates(entry.getValue().templates()));
+            }
+            refresher.track(this, recipient, resolver, inventory, values);
+        }
+
+        if (session != null && (session.isPending(page + 1) || session.isPending(page - 1))) {
+            // render the neighbouring pages later, so that navigating to them is quick
+            serverHandler.executeSafely(() -> prefetch(recipient, resolver, session, page, inventory));
+        }
+    }
+
+    private void clickPage(FormPlayer recipient, Resolver resolver, PageSession session, int page, int slot, boolean rightClick) {
+        MenuPages.Entry entry = session.entryAt(page, slot);
+        if (entry != null) {
+            click(recipient, entry.button, rightClick, entry.resolver(resolver));
+        } else if (slot == pages.getPreviousSlot() && pages.getPrevious() != null && session.hasPage(page - 1)) {
+            click(recipient, pages.getPrevious(), rightClick, resolver);
+            open(recipient, resolver, session, page - 1);
+        } else if (slot == pages.getNextSlot() && pages.getNext() != null && session.hasPage(page + 1)) {
+            click(recipient, pages.getNext(), rightClick, resolver);
+            open(recipient, resolver, session, page + 1);
+        }
+    }
+
+    private void prefetch(FormPlayer recipient, Resolver resolver, PageSession session, int page, InventoryHandle inventory) {
+        if (!controller.isOpen(recipient.getUuid(), inventory)) {
+            return;
+        }
+
+        Resolver render = resolver.memoized();
+        for (int neighbour : new int[]{page + 1, page - 1}) {
+            if (session.isPending(neighbour)) {
+                session.render(neighbour, MenuPages.pageResolver(neighbour, session.pageCount(), render));
+            }
+        }
+    }
+
+    private void click(FormPlayer recipient, ItemButton button, boolean rightClick, Resolver resolver) {
+        affectPlayer(recipient, button.getAnyClick(), resolver);
+        if (rightClick) {
+            affectPlayer(recipient, button.getRightClick(), resolver);
+        } else {
+            affectPlayer(recipient, button.getLeftClick(), resolver);
+        }
+    }
+
+    /**
+     * Updates the slots of an open menu whose buttons have changed since they were last sent.
+     * @param recipient The player that has the menu open
+     * @param resolver The resolver that the menu was opened with
+     * @param inventory The open menu
+     * @param values The resolved templates of each dynamic slot as they were last sent. Updated with any changes.
+     */
+    void refresh(FormPlayer recipient, Resolver resolver, InventoryHandle inventory, Map<Integer, List<String>> values) {
+        Resolver render = resolver.memoized();
+        boolean changed = false;
+        for (Map.Entry<Integer, ItemButton> entry : dynamicButtons().entrySet()) {
+            ItemButton button = entry.getValue();
+            List<String> resolved = render.applyTemplates(button.templates());
+            if (!resolved.equals(values.get(entry.getKey()))) {
+                inventory.setSlot(entry.getKey(), button.convertAndResolve(render));
+                values.put(entry.getKey(), resolved);
+                changed = true;
+            }
+        }
+
+        if (changed) {
+            controller.update(recipient, inventory);
+        }
+    }
+
+    private Map<Integer, ItemButton> dynamicButtons() {
+        Map<Integer, ItemButton> dynamicButtons = this.dynamicButtons;
+        return dynamicButtons == null ? buttons : dynamicButtons; // every button, if not prebuilt
     }
 
     private void affectPlayer(FormPlayer player, Iterable<Action<? super JavaMenu>> actions, Resolver resolver) {
         actions.forEach(a -> a.affectPlayer(player, resolver, this));
     }
+
+    /**
+     * The title and dynamic items of this menu with all placeholders resolved
+     */
+    @Value
+    private static class Rendered {
+        String title;
+        Map<Integer, ItemHandle> items;
+    }
 }
@@ -2,52 +2,53 @@ package dev.kejona.crossplatforms.interfacing.java;
 
 import dev.kejona.crossplatforms.Logger;
 import dev.kejona.crossplatforms.config.ConfigManager;
+import dev.kejona.crossplatforms.interfacing.RegistrySnapshot;
 import dev.kejona.crossplatforms.permission.Permission;
 import dev.kejona.crossplatforms.permission.Permissions;
 import dev.kejona.crossplatforms.reloadable.Reloadable;
 import dev.kejona.crossplatforms.reloadable.ReloadableRegistry;
-import lombok.Getter;
+import dev.kejona.crossplatforms.session.SessionListener;
+import dev.kejona.crossplatforms.session.SessionRegistry;
 
+import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.UUID;
 
-public class JavaMenuRegistry implements Reloadable {
+public class JavaMenuRegistry implements Reloadable, SessionListener {
 
 
     private final ConfigManager configManager;
     private final Permissions permissions;
 
-    @Getter
-    private final Map<String, JavaMenu> menus = new HashMap<>();
-
     /**
-     * If java menus are enabled. may be false if disabled in the config or if all forms failed to load.
+     * The menus by identifier, and if java menus are enabled. Replaced as a whole when loading, so that readers on
+     * other threads never see a partially loaded set of menus, or a flag that doesn't agree with them.
      */
-    @Getter
-    private boolean enabled = false;
+    private volatile RegistrySnapshot<JavaMenu> snapshot = RegistrySnapshot.disabled();
 
     public JavaMenuRegistry(ConfigManager configManager, Permissions permissions) {
         this.configManager = configManager;
         this.permissions = permissions;
         ReloadableRegistry.register(this);
+        SessionRegistry.register(this);
         load();
     }
 
     private void load() {
-        menus.clear();
-
         if (!configManager.getConfig(MenuConfig.class).isPresent()) {
-            enabled = false;
+            publish(Collections.emptyMap(), false);
             Logger.get().warn("Menu config is not present, not enabling menus.");
             return;
         }
 
         MenuConfig config = configManager.getConfig(MenuConfig.class).get();
-        enabled = config.isEnable();
-        if (enabled) {
+        Map<String, JavaMenu> menus = new HashMap<>();
+        if (config.isEnable()) {
             // todo: Permission does not implement equals/hashCode, so using a set won't really work as intended
             Set<Permission> permissions = new HashSet<>();
 
@@ -57,10 +58,16 @@ public class JavaMenuRegistry implements Reloadable {
 
                 menu.generatePermissions(config);
                 permissions.addAll(menu.getPermissions().values());
+                menu.prebuild();
             }
 
             this.permissions.registerPermissions(permissions);
         }
+        publish(menus, config.isEnable());
+    }
+
+    private void publish(Map<String, JavaMenu> menus, boolean enabled) {
+        this.snapshot = new RegistrySnapshot<>(menus, enabled);
     }
 
     @Override
@@ -69,6 +76,13 @@ public class JavaMenuRegistry implements Reloadable {
         return true;
     }
 
+    @Override
+    public void onQuit(@Nonnull UUID uuid) {
+        for (JavaMenu menu : snapshot.getInterfaces().values()) {
+            menu.invalidate(uuid);
+        }
+    }
+
     /**
      * Get a Java menu, based off its name.
      * @param menuName The menu name
@@ -76,6 +90,21 @@ public class JavaMenuRegistry implements Reloadable {
      */
     @Nullable
     public JavaMenu getMenu(@Nullable String menuName) {
-        return menus.get(menuName);
+        return snapshot.getInterfaces().get(menuName);
+    }
+
+    /**
+     * @return The menus by identifier. Not backed by this registry, so the menus of a later reload are not reflected.
+     */
+    @Nonnull
+    public Map<String, JavaMenu> getMenus() {
+        return snapshot.getInterfaces();
+    }
+
+    /**
+     * @return If java menus are enabled. may be false if disabled in the config or if all forms failed to load.
+     */
+    public boolean isEnabled() {
+        return snapshot.isEnabled();
     }
 }
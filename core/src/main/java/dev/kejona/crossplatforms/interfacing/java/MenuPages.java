@@ -0,0 +1,143 @@
+package dev.kejona.crossplatforms.interfacing.java;
+
+import dev.kejona.crossplatforms.context.PlayerContext;
+import dev.kejona.crossplatforms.filler.OptionFiller;
+import dev.kejona.crossplatforms.handler.FormPlayer;
+import dev.kejona.crossplatforms.resolver.MapResolver;
+import dev.kejona.crossplatforms.resolver.Resolver;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.ToString;
+import org.spongepowered.configurate.objectmapping.ConfigSerializable;
+import org.spongepowered.configurate.objectmapping.meta.Required;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lists entries across multiple pages of a {@link JavaMenu}. Entries are placed in the configured slots of each page,
+ * and buttons to navigate between pages are shown if there is a page before or after.
+ */
+@Getter
+@ToString
+@NoArgsConstructor
+@ConfigSerializable
+@SuppressWarnings("FieldMayBeFinal")
+public class MenuPages {
+
+    public static final String RAW_PLACEHOLDER = "%raw_text%";
+    public static final String PAGE_PLACEHOLDER = "%page%";
+    public static final String PAGES_PLACEHOLDER = "%pages%";
+
+    /**
+     * The slots that entries are placed in, in order. Each page shows as many entries as there are slots.
+     */
+    @Required
+    private List<Integer> slots = Collections.emptyList();
+
+    /**
+     * Entries that are listed before any generated entries
+     */
+    private List<ItemButton> entries = Collections.emptyList();
+
+    /**
+     * Generate entries which are shown with {@link #format}
+     */
+    private List<OptionFiller> fillers = Collections.emptyList();
+
+    /**
+     * How generated entries are shown. {@link #RAW_PLACEHOLDER} is replaced with the generated value.
+     */
+    @Nullable
+    private ItemButton format;
+
+    private int previousSlot = -1;
+    @Nullable
+    private ItemButton previous;
+
+    private int nextSlot = -1;
+    @Nullable
+    private ItemButton next;
+
+    MenuPages(List<Integer> slots, List<ItemButton> entries,
+              int previousSlot, @Nullable ItemButton previous,
+              int nextSlot, @Nullable ItemButton next) {
+        this.slots = slots;
+        this.entries = entries;
+        this.previousSlot = previousSlot;
+        this.previous = previous;
+        this.nextSlot = nextSlot;
+        this.next = next;
+    }
+
+    /**
+     * Collects the entries for a single opening of the menu. The entries of a session don't change while the player
+     * navigates between pages.
+     */
+    @Nonnull
+    PageSession session(FormPlayer player, Resolver resolver) {
+        List<Entry> entries = new ArrayList<>(this.entries.size());
+        for (ItemButton button : this.entries) {
+            entries.add(new Entry(button, null));
+        }
+
+        if (format != null && !fillers.isEmpty()) {
+            PlayerContext context = new PlayerContext(player, resolver);
+            for (OptionFiller filler : fillers) {
+                filler.rawOptions(context).forEachOrdered(raw -> entries.add(new Entry(format, raw)));
+            }
+        }
+        return new PageSession(this, entries);
+    }
+
+    /**
+     * @return the amount of pages needed to show the given amount of entries, which is at least 1
+     */
+    int pageCount(int entries) {
+        if (slots.isEmpty() || entries == 0) {
+            return 1;
+        }
+        return (entries + slots.size() - 1) / slots.size();
+    }
+
+    /**
+     * @param page The page, starting at 0
+     * @param pages The amount of pages
+     * @param resolver The resolver to resolve other placeholders with
+     * @return a resolver that resolves the page placeholders
+     */
+    static Resolver pageResolver(int page, int pages, Resolver resolver) {
+        Map<String, String> placeholders = new HashMap<>(2);
+        placeholders.put(PAGE_PLACEHOLDER, String.valueOf(page + 1));
+        placeholders.put(PAGES_PLACEHOLDER, String.valueOf(pages));
+        return new MapResolver(placeholders).then(resolver);
+    }
+
+    /**
+     * A button listed in the pages, and the generated value that it shows, if any
+     */
+    static final class Entry {
+
+        final ItemButton button;
+
+        @Nullable
+        private final String raw;
+
+        Entry(ItemButton button, @Nullable String raw) {
+            this.button = button;
+            this.raw = raw;
+        }
+
+        Resolver resolver(Resolver resolver) {
+            if (raw == null) {
+                return resolver;
+            }
+            return new MapResolver(Collections.singletonMap(RAW_PLACEHOLDER, raw)).then(resolver);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package dev.kejona.crossplatforms.interfacing.java;
+
+import dev.kejona.crossplatforms.Logger;
+import dev.kejona.crossplatforms.handler.FormPlayer;
+import dev.kejona.crossplatforms.handler.ServerHandler;
+import dev.kejona.crossplatforms.inventory.InventoryHandle;
+import dev.kejona.crossplatforms.reloadable.Reloadable;
+import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.session.SessionListener;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Refreshes the items of open {@link JavaMenu}s that have a refresh interval. A single timer checks for menus that
+ * are due to be refreshed, and refreshes them on the thread that the server API must be accessed on. Each run stops
+ * once its time budget is spent, leaving the remaining menus for the next run.
+ */
+public class MenuRefresher implements SessionListener, Reloadable {
+
+    /**
+     * How often, in milliseconds, to check for menus that are due to be refreshed
+     */
+    public static final long PERIOD = 50;
+
+    /**
+     * The maximum time, in nanoseconds, to spend refreshing menus per run
+     */
+    public static final long BUDGET = TimeUnit.MILLISECONDS.toNanos(2);
+
+    private static final Comparator<OpenMenu> DUE_ORDER = Comparator.comparingLong(open -> open.nextRefresh);
+
+    private final ServerHandler serverHandler;
+
+    /**
+     * The menu that each player has open, if it should be refreshed
+     */
+    private final Map<UUID, OpenMenu> menus = new ConcurrentHashMap<>();
+
+    /**
+     * True if a run has been handed to the server handler and has not yet finished
+     */
+    private final AtomicBoolean scheduled = new AtomicBoolean(false);
+
+    /**
+     * Started once the first menu is tracked
+     */
+    @Nullable
+    private ScheduledExecutorService timer;
+
+    public MenuRefresher(@Nonnull ServerHandler serverHandler) {
+        this.serverHandler = serverHandler;
+    }
+
+    /**
+     * Refreshes the menu periodically for as long as the player has it open, replacing any menu that was previously
+     * tracked for the player.
+     * @param menu The menu that was opened
+     * @param player The player that the menu was opened for
+     * @param resolver The resolver that the menu was opened with. It must not be memoized.
+     * @param inventory The inventory that was opened
+     * @param values The resolved templates of each dynamic slot, as they were opened with
+     */
+    public void track(@Nonnull JavaMenu menu,
+                      @Nonnull FormPlayer player,
+                      @Nonnull Resolver resolver,
+                      @Nonnull InventoryHandle inventory,
+                      @Nonnull Map<Integer, List<String>> values) {
+        long next = System.currentTimeMillis() + menu.getRefreshInterval();
+        menus.put(player.getUuid(), new OpenMenu(menu, player, resolver, inventory, values, next));
+        start();
+    }
+
+    private synchronized void start() {
+        if (timer == null) {
+            timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "CrossplatForms Menu Refresher");
+                thread.setDaemon(true);
+                return thread;
+            });
+            timer.scheduleAtFixedRate(this::check, PERIOD, PERIOD, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * @return the amount of open menus that are being refreshed
+     */
+    public int size() {
+        return menus.size();
+    }
+
+    /**
+     * Stops refreshing menus.
+     */
+    public synchronized void shutdown() {
+        if (timer != null) {
+            timer.shutdownNow();
+            timer = null;
+        }
+        menus.clear();
+    }
+
+    @Override
+    public void onQuit(@Nonnull UUID uuid) {
+        menus.remove(uuid);
+    }
+
+    /**
+     * Stops refreshing every open menu, since they may have been replaced.
+     */
+    @Override
+    public boolean reload() {
+        menus.clear();
+        return true;
+    }
+
+    private void check() {
+        if (menus.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        for (OpenMenu open : menus.values()) {
+            if (open.nextRefresh <= now) {
+                if (scheduled.compareAndSet(false, true)) {
+                    serverHandler.executeSafely(this::refreshDue);
+                }
+                return;
+            }
+        }
+    }
+
+    private void refreshDue() {
+        try {
+            long now = System.currentTimeMillis();
+            List<OpenMenu> due = new ArrayList<>();
+            for (OpenMenu open : menus.values()) {
+                if (open.nextRefresh <= now) {
+                    due.add(open);
+                }
+            }
+            // the menus that have waited the longest go first, in case the budget runs out
+            due.sort(DUE_ORDER);
+
+            long deadline = System.nanoTime() + BUDGET;
+            for (OpenMenu open : due) {
+                if (System.nanoTime() - deadline >= 0) {
+                    break;
+                }
+                refresh(open, now);
+            }
+        } finally {
+            scheduled.set(false);
+        }
+    }
+
+    private void refresh(OpenMenu open, long now) {
+        UUID uuid = open.player.getUuid();
+        if (!open.menu.getController().isOpen(uuid, open.inventory)) {
+            menus.remove(uuid, open);
+            return;
+        }
+
+        try {
+            open.menu.refresh(open.player, open.resolver, open.inventory, open.values);
+        } catch (Exception e) {
+            Logger.get().severe("Failed to refresh menu " + open.menu.getIdentifier() + " for " + open.player.getName() + ", it will no longer be refreshed: " + e.getMessage());
+            e.printStackTrace();
+            menus.remove(uuid, open);
+            return;
+        }
+        open.nextRefresh = now + open.menu.getRefreshInterval();
+    }
+
+    private static class OpenMenu {
+        private final JavaMenu menu;
+        private final FormPlayer player;
+        private final Resolver resolver;
+        private final InventoryHandle inventory;
+
+        /**
+         * The resolved templates of each dynamic slot, as they were last sent. Only accessed while refreshing.
+         */
+        private final Map<Integer, List<String>> values;
+
+        private volatile long nextRefresh;
+
+        OpenMenu(JavaMenu menu, FormPlayer player, Resolver resolver, InventoryHandle inventory, Map<Integer, List<String>> values, long nextRefresh) {
+            this.menu = menu;
+            this.player = player;
+            this.resolver = resolver;
+            this.inventory = inventory;
+            this.values = values;
+            this.nextRefresh = nextRefresh;
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package dev.kejona.crossplatforms.interfacing.java;
+
+import dev.kejona.crossplatforms.inventory.ItemHandle;
+import dev.kejona.crossplatforms.resolver.Resolver;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The entries of a paginated menu for a single player, and the pages that have been rendered so far. Pages are only
+ * rendered once they are shown or are about to be shown.
+ */
+final class PageSession {
+
+    private final MenuPages pages;
+    private final List<MenuPages.Entry> entries;
+    private final int pageCount;
+
+    /**
+     * The items of each page that has been rendered, by page
+     */
+    private final Map<Integer, Map<Integer, ItemHandle>> rendered = new ConcurrentHashMap<>();
+
+    PageSession(MenuPages pages, List<MenuPages.Entry> entries) {
+        this.pages = pages;
+        this.entries = entries;
+        this.pageCount = pages.pageCount(entries.size());
+    }
+
+    int pageCount() {
+        return pageCount;
+    }
+
+    boolean hasPage(int page) {
+        return page >= 0 && page < pageCount;
+    }
+
+    /**
+     * Gets the items of a page, rendering them if they have not been already.
+     * @param page The page, which must exist
+     * @param resolver A resolver that resolves the page placeholders of the page
+     * @return the items of the entries and navigation buttons of the page, by slot
+     */
+    @Nonnull
+    Map<Integer, ItemHandle> render(int page, Resolver resolver) {
+        Map<Integer, ItemHandle> items = rendered.get(page);
+        if (items != null) {
+            return items;
+        }
+
+        items = new HashMap<>();
+        List<Integer> slots = pages.getSlots();
+        int start = page * slots.size();
+        for (int i = 0; i < slots.size() && start + i < entries.size(); i++) {
+            MenuPages.Entry entry = entries.get(start + i);
+            items.put(slots.get(i), entry.button.convertAndResolve(entry.resolver(resolver)));
+        }
+
+        if (pages.getPrevious() != null && pages.getPreviousSlot() >= 0 && hasPage(page - 1)) {
+            items.put(pages.getPreviousSlot(), pages.getPrevious().convertAndResolve(resolver));
+        }
+        if (pages.getNext() != null && pages.getNextSlot() >= 0 && hasPage(page + 1)) {
+            items.put(pages.getNextSlot(), pages.getNext().convertAndResolve(resolver));
+        }
+
+        items = Collections.unmodifiableMap(items);
+        rendered.put(page, items);
+        return items;
+    }
+
+    /**
+     * @return true if the page exists but has not been rendered yet
+     */
+    boolean isPending(int page) {
+        return hasPage(page) && !rendered.containsKey(page);
+    }
+
+    /**
+     * @return the entry shown at the given slot of a page, or null if there is none
+     */
+    @Nullable
+    MenuPages.Entry entryAt(int page, int slot) {
+        int index = pages.getSlots().indexOf(slot);
+        if (index < 0) {
+            return null;
+        }
+        index += page * pages.getSlots().size();
+        return index < entries.size() ? entries.get(index) : null;
+    }
+}
@@ -0,0 +1,114 @@
+package dev.kejona.crossplatforms.inventory;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import dev.kejona.crossplatforms.handler.FormPlayer;
+import lombok.EqualsAndHashCode;
+import lombok.RequiredArgsConstructor;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.List;
+
+/**
+ * Reuses items that have already been created with the same material, display name, lore, custom model data and
+ * skull profile. Many items resolve to the same values for most players, even if they contain placeholders.
+ * <p>
+ * Since items are shared, they must not be modified. Any item that is about to be modified, rather than set in an
+ * inventory, should be copied first.
+ */
+public class CachingInventoryFactory implements InventoryFactory {
+
+    public static final int DEFAULT_MAXIMUM = 1000;
+
+    private final InventoryFactory delegate;
+
+    private final Cache<ItemKey, ItemHandle> items;
+
+    public CachingInventoryFactory(@Nonnull InventoryFactory delegate) {
+        this(delegate, DEFAULT_MAXIMUM);
+    }
+
+    /**
+     * @param delegate The factory to create inventories and items with
+     * @param maximum The maximum amount of items to hold. The least recently used items are evicted first.
+     */
+    public CachingInventoryFactory(@Nonnull InventoryFactory delegate, int maximum) {
+        this.delegate = delegate;
+        this.items = CacheBuilder.newBuilder()
+            .maximumSize(maximum)
+            .recordStats()
+            .build();
+    }
+
+    @Override
+    public InventoryHandle chest(String title, int chestSize) {
+        return delegate.chest(title, chestSize);
+    }
+
+    @Override
+    public InventoryHandle inventory(String title, InventoryLayout layout) {
+        return delegate.inventory(title, layout);
+    }
+
+    @Override
+    public ItemHandle item(@Nullable String material, @Nullable String displayName, @Nonnull List<String> lore, @Nullable Integer customModelData) {
+        ItemKey key = new ItemKey(material, displayName, lore, customModelData, null, null);
+        ItemHandle item = items.getIfPresent(key);
+        if (item == null) {
+            item = delegate.item(material, displayName, lore, customModelData);
+            items.put(key, item);
+        }
+        return item;
+    }
+
+    @Override
+    public ItemHandle skullItem(FormPlayer profile, @Nullable String displayName, List<String> lore) {
+        // the player may be offline by the time the item is reused, so only the name and skin are used
+        ItemKey key = new ItemKey(null, displayName, lore, null, profile.getName(), profile.getEncodedSkinData());
+        ItemHandle item = items.getIfPresent(key);
+        if (item == null) {
+            item = delegate.skullItem(profile, displayName, lore);
+            items.put(key, item);
+        }
+        return item;
+    }
+
+    @Override
+    public ItemHandle skullItem(SkullProfile profile, @Nullable String displayName, List<String> lore) {
+        ItemKey key = new ItemKey(null, displayName, lore, null, profile.getOwner(), profile.getTextures());
+        ItemHandle item = items.getIfPresent(key);
+        if (item == null) {
+            item = delegate.skullItem(profile, displayName, lore);
+            items.put(key, item);
+        }
+        return item;
+    }
+
+    /**
+     * @return the hit and miss statistics of item lookups
+     */
+    @Nonnull
+    public CacheStats getStats() {
+        return items.stats();
+    }
+
+    public void clear() {
+        items.invalidateAll();
+    }
+
+    /**
+     * Everything that an item is created from. Skull items are distinguished by their owner or textures.
+     */
+    @EqualsAndHashCode
+    @RequiredArgsConstructor
+    private static final class ItemKey {
+        @Nullable private final String material;
+        @Nullable private final String displayName;
+        private final List<String> lore;
+        @Nullable private final Integer customModelData;
+        @Nullable private final String skullOwner;
+        @Nullable private final String skullTextures;
+    }
+}
@@ -2,10 +2,13 @@ package dev.kejona.crossplatforms.inventory;
 
 import com.google.inject.Inject;
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
+import lombok.AccessLevel;
 import lombok.Getter;
 import org.checkerframework.checker.nullness.qual.Nullable;
 import org.spongepowered.configurate.objectmapping.ConfigSerializable;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 
@@ -29,17 +32,75 @@ public class ConfiguredItem {
     @Nullable
     protected SkullProfile skull;
 
+    @Getter(AccessLevel.NONE)
+    private transient Template materialTemplate;
+
+    @Getter(AccessLevel.NONE)
+    private transient Template displayNameTemplate;
+
+    @Getter(AccessLevel.NONE)
+    private transient List<Template> loreTemplates;
+
     @Inject
     protected ConfiguredItem() {
 
     }
 
+    private void compile() {
+        if (loreTemplates == null) {
+            // compiled lazily since subclasses may be constructed or mutated outside of deserialization
+            materialTemplate = Template.compile(material);
+            displayNameTemplate = Template.compile(this.displayName);
+            loreTemplates = Template.compile(this.lore);
+        }
+    }
+
+    /**
+     * @return Every template that the resolved item depends on. May contain null elements.
+     */
+    public List<Template> templates() {
+        compile();
+        List<Template> templates = new ArrayList<>(loreTemplates.size() + 2);
+        if (skull == null) {
+            templates.add(materialTemplate);
+        }
+        templates.add(displayNameTemplate);
+        templates.addAll(loreTemplates);
+        return templates;
+    }
+
+    /**
+     * @return true if none of the templates that the item depends on contain placeholders, in which case the item is
+     * the same for every player and may be converted once with {@link #convert()}.
+     */
+    public boolean isStatic() {
+        for (Template template : templates()) {
+            if (template != null && !template.isStatic()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Converts the item without resolving any placeholders. Should only be used if {@link #isStatic()}.
+     */
+    public ItemHandle convert() {
+        if (skull == null) {
+            return factory.item(material, displayName, lore, customModelData);
+        } else {
+            return factory.skullItem(skull, displayName, lore);
+        }
+    }
+
     public ItemHandle convertAndResolve(Resolver resolver) {
-        String displayName = resolver.apply(this.displayName);
-        List<String> lore = resolver.apply(this.lore);
+        compile();
+
+        String displayName = resolver.apply(displayNameTemplate);
+        List<String> lore = resolver.applyTemplates(loreTemplates);
 
         if (skull == null) {
-            String material = resolver.apply(this.material);
+            String material = resolver.apply(materialTemplate);
             return factory.item(material, displayName, lore, customModelData);
         } else {
             return factory.skullItem(skull, displayName, lore);
@@ -2,6 +2,8 @@ package dev.kejona.crossplatforms.inventory;
 
 import dev.kejona.crossplatforms.handler.FormPlayer;
 
+import java.util.UUID;
+
 /**
  * Opens player inventories. It is expected that the implementation of {@link InventoryController} and
  * {@link InventoryFactory} are compatible.
@@ -9,4 +11,19 @@ import dev.kejona.crossplatforms.handler.FormPlayer;
 public interface InventoryController {
 
     void openInventory(FormPlayer recipient, InventoryHandle container, ClickHandler clickHandler);
+
+    /**
+     * @param player The UUID of the player
+     * @param container An inventory that was opened with {@link #openInventory(FormPlayer, InventoryHandle, ClickHandler)}
+     * @return true if the player still has the inventory open
+     */
+    boolean isOpen(UUID player, InventoryHandle container);
+
+    /**
+     * Shows the player any slots that have been changed in an inventory that they have open.
+     * The default implementation does nothing, for implementations whose inventories show changes immediately.
+     */
+    default void update(FormPlayer recipient, InventoryHandle container) {
+        // no-op
+    }
 }
@@ -7,4 +7,12 @@ import dev.kejona.crossplatforms.interfacing.bedrock.custom.CustomComponent;
 public interface Parser extends KeyedType {
 
     String parse(FormPlayer player, CustomComponent component, String primitive);
+
+    /**
+     * @return true if {@link #parse(FormPlayer, CustomComponent, String)} may be called off of the thread that the
+     * server API must be accessed on.
+     */
+    default boolean isThreadSafe() {
+        return true;
+    }
 }
@@ -19,4 +19,9 @@ public class PlaceholderParser implements Parser {
     public String parse(FormPlayer player, CustomComponent component, String primitive) {
         return CrossplatForms.getInstance().getPlaceholders().setPlaceholders(player, primitive);
     }
+
+    @Override
+    public boolean isThreadSafe() {
+        return false; // placeholder expansions may access the server API
+    }
 }
@@ -2,13 +2,20 @@ package dev.kejona.crossplatforms.permission;
 
 import dev.kejona.crossplatforms.Logger;
 import net.luckperms.api.LuckPermsProvider;
+import net.luckperms.api.event.EventBus;
+import net.luckperms.api.event.context.ContextUpdateEvent;
+import net.luckperms.api.event.group.GroupDataRecalculateEvent;
+import net.luckperms.api.event.user.UserDataRecalculateEvent;
 import net.luckperms.api.model.group.Group;
 import net.luckperms.api.model.group.GroupManager;
 import net.luckperms.api.node.types.PermissionNode;
 import net.luckperms.api.node.types.WeightNode;
 
 import java.util.Collection;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 public class LuckPermsHook implements Permissions {
@@ -19,6 +26,19 @@ public class LuckPermsHook implements Permissions {
     private final GroupManager groupManager = LuckPermsProvider.get().getGroupManager();
     private final Logger logger = Logger.get();
 
+    /**
+     * Gets the UUID of the player whose contexts changed, if the subject is a player
+     */
+    private final Function<ContextUpdateEvent, Optional<UUID>> contextPlayer;
+
+    /**
+     * @param playerType The player class of the platform, which is the subject of context updates for players
+     * @param uuid Gets the UUID of a player
+     */
+    public <P> LuckPermsHook(Class<P> playerType, Function<P, UUID> uuid) {
+        this.contextPlayer = event -> event.getSubject(playerType).map(uuid);
+    }
+
     @Override
     public void registerPermissions(Collection<Permission> permissions) {
         if (permissions.stream().map(Permission::defaultPermission).noneMatch(PermissionDefault::asBoolean)) {
@@ -58,6 +78,17 @@ public class LuckPermsHook implements Permissions {
         });
     }
 
+    @Override
+    public boolean listenForChanges(PermissionCache cache) {
+        EventBus eventBus = LuckPermsProvider.get().getEventBus();
+        eventBus.subscribe(UserDataRecalculateEvent.class, event -> cache.invalidate(event.getUser().getUniqueId()));
+        // any player may inherit from the group
+        eventBus.subscribe(GroupDataRecalculateEvent.class, event -> cache.invalidateAll());
+        // permissions may depend on contexts such as the world or server, which change without a recalculation
+        eventBus.subscribe(ContextUpdateEvent.class, event -> contextPlayer.apply(event).ifPresent(cache::invalidate));
+        return true;
+    }
+
     private void clearPermissions(Group group, Collection<String> keys) {
         group.data().clear(node -> keys.contains(node.getKey()));
     }
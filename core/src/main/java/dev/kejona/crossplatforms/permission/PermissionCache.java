@@ -0,0 +1,135 @@
+package dev.kejona.crossplatforms.permission;
+
+import dev.kejona.crossplatforms.command.CommandOrigin;
+import dev.kejona.crossplatforms.handler.FormPlayer;
+import dev.kejona.crossplatforms.reloadable.Reloadable;
+import dev.kejona.crossplatforms.session.SessionListener;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+/**
+ * Remembers whether players have the permissions generated for forms, menus and access items, which are checked on
+ * frequent events. Decisions of a player are forgotten when the {@link Permissions} implementation reports that their
+ * permissions have changed, or after a short time if it doesn't report changes. Every decision is forgotten on reload.
+ */
+public class PermissionCache implements SessionListener, Reloadable {
+
+    /**
+     * How long decisions are kept if changes are not reported, in milliseconds
+     */
+    public static final long DEFAULT_TTL = TimeUnit.SECONDS.toMillis(5);
+
+    /**
+     * How long decisions are kept if changes are reported, in milliseconds. Only a safeguard against missed changes.
+     */
+    public static final long REPORTED_TTL = TimeUnit.MINUTES.toMillis(5);
+
+    private final Map<UUID, Decisions> players = new ConcurrentHashMap<>();
+    private final long ttl;
+    private final LongSupplier clock;
+
+    /**
+     * @param permissions The permission implementation, which is asked to report changes to this cache
+     */
+    public PermissionCache(@Nonnull Permissions permissions) {
+        this.clock = System::currentTimeMillis;
+        this.ttl = permissions.listenForChanges(this) ? REPORTED_TTL : DEFAULT_TTL;
+    }
+
+    /**
+     * @param ttl How long decisions are kept, in milliseconds
+     * @param clock The current time, in milliseconds
+     */
+    public PermissionCache(long ttl, @Nonnull LongSupplier clock) {
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * Checks if a player has a permission, using a previous decision if there is one
+     * @param uuid The UUID of the player
+     * @param permission The permission to check
+     * @param check Checks the permission against the player if there is no decision
+     * @return True if the player has the permission
+     */
+    public boolean hasPermission(@Nonnull UUID uuid, @Nonnull String permission, @Nonnull Predicate<String> check) {
+        long now = clock.getAsLong();
+        Decisions decisions = players.get(uuid);
+        if (decisions == null || now >= decisions.expiry) {
+            decisions = new Decisions(now + ttl);
+            players.put(uuid, decisions);
+        }
+
+        Boolean value = decisions.values.get(permission);
+        if (value == null) {
+            value = check.test(permission);
+            decisions.values.put(permission, value);
+        }
+        return value;
+    }
+
+    public boolean hasPermission(@Nonnull FormPlayer player, @Nonnull String permission) {
+        return hasPermission(player.getUuid(), permission, player::hasPermission);
+    }
+
+    /**
+     * Checks if a command origin has a permission. Decisions are only cached for players.
+     */
+    public boolean hasPermission(@Nonnull CommandOrigin origin, @Nonnull String permission) {
+        Optional<UUID> uuid = origin.getUUID();
+        if (origin.isPlayer() && uuid.isPresent()) {
+            return hasPermission(uuid.get(), permission, origin::hasPermission);
+        }
+        return origin.hasPermission(permission);
+    }
+
+    /**
+     * Forgets the decisions of a player, for example because their permissions have changed
+     */
+    public void invalidate(@Nonnull UUID uuid) {
+        players.remove(uuid);
+    }
+
+    /**
+     * Forgets the decisions of every player
+     */
+    public void invalidateAll() {
+        players.clear();
+    }
+
+    /**
+     * @return the amount of players that decisions are held for
+     */
+    public int size() {
+        return players.size();
+    }
+
+    @Override
+    public void onQuit(@Nonnull UUID uuid) {
+        invalidate(uuid);
+    }
+
+    @Override
+    public boolean reload() {
+        // the permissions generated for forms, menus and access items may have changed
+        invalidateAll();
+        return true;
+    }
+
+    private static final class Decisions {
+
+        private final long expiry;
+        private final Map<String, Boolean> values = new ConcurrentHashMap<>();
+
+        private Decisions(long expiry) {
+            this.expiry = expiry;
+        }
+    }
+}
@@ -10,6 +10,15 @@ public interface Permissions {
 
     }
 
+    /**
+     * Reports changes to the permissions of players to a cache, if this implementation is able to.
+     * @param cache The cache to invalidate when permissions change
+     * @return true if changes will be reported, false if they won't be
+     */
+    default boolean listenForChanges(PermissionCache cache) {
+        return false;
+    }
+
     static Permissions empty() {
         return EmptyPermissions.INSTANCE;
     }
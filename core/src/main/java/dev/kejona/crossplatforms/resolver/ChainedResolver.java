@@ -0,0 +1,41 @@
+package dev.kejona.crossplatforms.resolver;
+
+import lombok.AllArgsConstructor;
+
+import javax.annotation.Nullable;
+
+/**
+ * Applies one resolver, and then another on the result.
+ * @see Resolver#then(Resolver)
+ */
+@AllArgsConstructor
+class ChainedResolver implements Resolver {
+
+    private final Resolver first;
+    private final Resolver second;
+
+    @Override
+    public String apply(@Nullable String s) {
+        return second.apply(first.apply(s));
+    }
+
+    @Override
+    public boolean isPlaceholderOnly() {
+        return first.isPlaceholderOnly() && second.isPlaceholderOnly();
+    }
+
+    @Override
+    public String apply(@Nullable Template template) {
+        if (template == null) {
+            return null;
+        }
+
+        String resolved = first.apply(template);
+        //noinspection StringEquality
+        if (resolved == template.source()) {
+            // the first resolver did not change anything, so the template is still valid for the second
+            return second.apply(template);
+        }
+        return second.apply(resolved);
+    }
+}
@@ -0,0 +1,143 @@
+package dev.kejona.crossplatforms.resolver;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * A prefix trie of replacement keys, which substitutes every key in a String with a single left-to-right scan.
+ * At each position the longest key starting there is replaced, and scanning continues after it, so replaced values
+ * are never scanned again.
+ */
+final class KeyTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * The first character of every key, if they all share one. Allows positions that cannot start a key to be
+     * skipped with {@link String#indexOf(int, int)}.
+     */
+    private final int commonStart;
+
+    /**
+     * @param replacements The keys to match and their values. Keys must not be empty.
+     * @throws IllegalArgumentException if a key is empty
+     */
+    KeyTrie(@Nonnull Map<String, String> replacements) {
+        int commonStart = -1;
+        boolean first = true;
+        for (Map.Entry<String, String> entry : replacements.entrySet()) {
+            String key = entry.getKey();
+            if (key.isEmpty()) {
+                throw new IllegalArgumentException("Replacement keys must not be empty");
+            }
+
+            if (first) {
+                commonStart = key.charAt(0);
+                first = false;
+            } else if (commonStart != key.charAt(0)) {
+                commonStart = -1;
+            }
+
+            Node node = root;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.childOrCreate(key.charAt(i));
+            }
+            node.value = entry.getValue();
+        }
+
+        this.commonStart = commonStart;
+    }
+
+    /**
+     * @return the String with every key replaced, or the same instance if it contained no keys
+     */
+    @Nonnull
+    String replace(@Nonnull String s) {
+        int length = s.length();
+        int i = commonStart == -1 ? 0 : s.indexOf(commonStart);
+        if (i == -1) {
+            return s;
+        }
+
+        StringBuilder builder = null;
+        int last = 0; // end of the previous match
+        while (i < length) {
+            // find the longest key starting at i
+            Node node = root;
+            String value = null;
+            int end = -1;
+            for (int j = i; j < length; j++) {
+                node = node.child(s.charAt(j));
+                if (node == null) {
+                    break;
+                }
+                if (node.value != null) {
+                    value = node.value;
+                    end = j + 1;
+                }
+            }
+
+            if (value == null) {
+                i++;
+            } else {
+                if (builder == null) {
+                    builder = new StringBuilder(length + 16);
+                }
+                builder.append(s, last, i).append(value);
+                last = i = end;
+            }
+
+            if (commonStart != -1 && i < length) {
+                i = s.indexOf(commonStart, i);
+                if (i == -1) {
+                    break;
+                }
+            }
+        }
+
+        if (builder == null) {
+            return s;
+        }
+        return builder.append(s, last, length).toString();
+    }
+
+    private static final class Node {
+
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_CHILDREN = new Node[0];
+
+        // Parallel arrays, since the number of children is usually very small
+        private char[] keys = NO_KEYS;
+        private Node[] children = NO_CHILDREN;
+
+        @Nullable
+        private String value;
+
+        @Nullable
+        private Node child(char c) {
+            char[] keys = this.keys;
+            for (int i = 0; i < keys.length; i++) {
+                if (keys[i] == c) {
+                    return children[i];
+                }
+            }
+            return null;
+        }
+
+        @Nonnull
+        private Node childOrCreate(char c) {
+            Node child = child(c);
+            if (child == null) {
+                child = new Node();
+                int size = keys.length;
+                keys = Arrays.copyOf(keys, size + 1);
+                children = Arrays.copyOf(children, size + 1);
+                keys[size] = c;
+                children[size] = child;
+            }
+            return child;
+        }
+    }
+}
@@ -1,25 +1,83 @@
 package dev.kejona.crossplatforms.resolver;
 
 import dev.kejona.crossplatforms.Logger;
-import lombok.AllArgsConstructor;
 
+import javax.annotation.Nullable;
 import java.util.Map;
 
-@AllArgsConstructor
 public class MapResolver implements Resolver {
 
     private final Map<String, String> map;
 
+    /**
+     * True if every key is a single placeholder, which allows templates to be filled directly from the map
+     */
+    private final boolean placeholderKeys;
+
+    /**
+     * Matcher for every key, built when a String is first resolved. The map is assumed to not change afterwards.
+     */
+    @Nullable
+    private KeyTrie trie;
+
+    public MapResolver(Map<String, String> map) {
+        this.map = map;
+
+        boolean placeholderKeys = true;
+        for (String key : map.keySet()) {
+            if (!Template.isPlaceholder(key)) {
+                placeholderKeys = false;
+                break;
+            }
+        }
+        this.placeholderKeys = placeholderKeys;
+    }
+
     @Override
     public String apply(final String s) {
         if (s == null) {
             return null;
         }
+        if (s.isEmpty() || map.isEmpty() || (placeholderKeys && s.indexOf(Template.DELIMITER) == -1)) {
+            return s;
+        }
 
-        String result = s;
-        for (String key : map.keySet()) {
-            result = result.replace(key, map.get(key));
+        String result;
+        if (map.containsKey("")) {
+            result = s;
+            for (String key : map.keySet()) {
+                result = result.replace(key, map.get(key));
+            }
+        } else {
+            if (trie == null) {
+                trie = new KeyTrie(map);
+            }
+            result = trie.replace(s);
+        }
+        if (Logger.get().isDebug()) {
+            Logger.get().info("Result of map resolver: " + result);
         }
+        return result;
+    }
+
+    @Override
+    public boolean isPlaceholderOnly() {
+        return placeholderKeys;
+    }
+
+    @Override
+    public String apply(@Nullable Template template) {
+        if (template == null) {
+            return null;
+        }
+        if (!placeholderKeys || !template.isWellFormed()) {
+            return apply(template.source());
+        }
+        if (template.isStatic() || map.isEmpty()) {
+            return template.source();
+        }
+
+        String result = template.fill(map::get);
         if (Logger.get().isDebug()) {
             Logger.get().info("Result of map resolver: " + result);
         }
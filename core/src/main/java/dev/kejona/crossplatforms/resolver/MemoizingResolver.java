@@ -0,0 +1,71 @@
+package dev.kejona.crossplatforms.resolver;
+
+import javax.annotation.Nullable;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Resolves each distinct placeholder only once, and reuses its value for every String that is resolved afterwards.
+ * Intended to be used for a single render of a form or menu, and not shared between threads.
+ * @see Resolver#memoized()
+ */
+final class MemoizingResolver implements Resolver {
+
+    private final Resolver resolver;
+
+    /**
+     * Placeholders and their values. A placeholder that resolves to itself maps to null.
+     */
+    private final Map<String, String> values = new HashMap<>();
+
+    MemoizingResolver(Resolver resolver) {
+        this.resolver = resolver;
+    }
+
+    @Override
+    public String apply(@Nullable String s) {
+        if (s == null) {
+            return null;
+        }
+        return apply(Template.compile(s));
+    }
+
+    @Override
+    public String apply(@Nullable Template template) {
+        if (template == null) {
+            return null;
+        }
+        if (template.isStatic()) {
+            return template.source();
+        }
+        if (!template.isWellFormed()) {
+            return resolver.apply(template);
+        }
+
+        return template.fill(this::value);
+    }
+
+    @Nullable
+    private String value(String placeholder) {
+        if (values.containsKey(placeholder)) {
+            return values.get(placeholder);
+        }
+
+        String value = resolver.apply(placeholder);
+        if (placeholder.equals(value)) {
+            value = null; // unresolved, leave it as it is
+        }
+        values.put(placeholder, value);
+        return value;
+    }
+
+    @Override
+    public boolean isPlaceholderOnly() {
+        return true;
+    }
+
+    @Override
+    public Resolver memoized() {
+        return this;
+    }
+}
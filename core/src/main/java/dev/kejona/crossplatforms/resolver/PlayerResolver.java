@@ -4,6 +4,8 @@ import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.handler.Placeholders;
 import lombok.AllArgsConstructor;
 
+import javax.annotation.Nullable;
+
 @AllArgsConstructor
 public class PlayerResolver implements Resolver {
 
@@ -17,4 +19,17 @@ public class PlayerResolver implements Resolver {
         }
         return placeholders.setPlaceholders(player, s);
     }
+
+    @Override
+    public boolean isPlaceholderOnly() {
+        return true; // placeholder implementations only resolve %-delimited placeholders
+    }
+
+    @Override
+    public String apply(@Nullable Template template) {
+        if (template == null) {
+            return null;
+        }
+        return placeholders.setPlaceholders(player, template);
+    }
 }
@@ -5,6 +5,7 @@ import org.jetbrains.annotations.Contract;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.UnaryOperator;
 
@@ -27,6 +28,22 @@ public interface Resolver extends UnaryOperator<String> {
         return apply(s);
     }
 
+    /**
+     * Resolves a compiled template. Implementations that only resolve %-delimited placeholders should override this
+     * to avoid scanning the source again, for example by skipping {@link Template#isStatic()} templates or by
+     * using {@link Template#fill(java.util.function.Function)}.
+     * @param template The template to resolve
+     * @return The resolved String
+     */
+    @Contract("!null -> !null; null -> null")
+    default String apply(@Nullable Template template) {
+        if (template == null) {
+            return null;
+        }
+
+        return apply(template.source());
+    }
+
     @Contract("!null -> !null; null -> null")
     default List<String> apply(@Nullable List<String> list) {
         if (list == null) {
@@ -40,8 +57,57 @@ public interface Resolver extends UnaryOperator<String> {
         return resolved;
     }
 
+    @Contract("!null -> !null; null -> null")
+    default List<String> applyTemplates(@Nullable List<Template> templates) {
+        if (templates == null) {
+            return null;
+        }
+
+        List<String> resolved = new ArrayList<>(templates.size());
+        for (Template template : templates) {
+            resolved.add(apply(template));
+        }
+        return resolved;
+    }
+
+    /**
+     * Resolves every template of a single render at once. If this resolver is {@link #isPlaceholderOnly()}, each
+     * distinct placeholder across all the templates is only evaluated once.
+     * @param templates The templates to resolve
+     * @return The resolved Strings, in the same order as the templates
+     */
+    @Nonnull
+    default List<String> applyAll(@Nonnull Collection<Template> templates) {
+        Resolver resolver = memoized();
+        List<String> resolved = new ArrayList<>(templates.size());
+        for (Template template : templates) {
+            resolved.add(resolver.apply(template));
+        }
+        return resolved;
+    }
+
+    /**
+     * @return true if this resolver only replaces whole %-delimited placeholders, and the value of a placeholder does
+     * not depend on the text surrounding it. If so, a placeholder can be resolved on its own and its value reused.
+     */
+    default boolean isPlaceholderOnly() {
+        return false;
+    }
+
+    /**
+     * Creates a resolver that evaluates each distinct placeholder once, and reuses the value for every String it
+     * resolves afterwards. This should only be used for a single render of a form or menu, since values are never
+     * refreshed. Returns this resolver if it is not {@link #isPlaceholderOnly()}.
+     */
+    default Resolver memoized() {
+        if (isPlaceholderOnly()) {
+            return new MemoizingResolver(this);
+        }
+        return this;
+    }
+
     default Resolver then(Resolver resolver) {
-        return s -> resolver.apply(this.apply(s));
+        return new ChainedResolver(this, resolver);
     }
 
     static Resolver of(@Nonnull final UnaryOperator<String> keyMapper) {
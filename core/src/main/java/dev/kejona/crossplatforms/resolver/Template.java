@@ -0,0 +1,227 @@
+package dev.kejona.crossplatforms.resolver;
+
+import org.jetbrains.annotations.Contract;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * A String that has been compiled into literal segments and placeholder slots, so that it can be filled by a
+ * {@link Resolver} in a single pass rather than being scanned again for every possible placeholder.
+ * <p>
+ * A placeholder slot is a {@code %} followed by one or more characters that are neither {@code %} nor whitespace,
+ * followed by a closing {@code %}. If a String contains a {@code %} that is not part of a slot (for example
+ * "100%" or nested placeholders), it is not {@link #isWellFormed() well formed} and resolvers should fall back to
+ * resolving the {@link #source()}.
+ */
+public final class Template {
+
+    public static final char DELIMITER = '%';
+
+    private static final Template EMPTY = new Template("", new String[0], new int[0], true);
+    private static final String[] NO_PLACEHOLDERS = new String[0];
+    private static final int[] NO_STARTS = new int[0];
+
+    @Nonnull
+    private final String source;
+
+    /**
+     * Placeholders, including their delimiters, in the order that they appear in the source
+     */
+    @Nonnull
+    private final String[] placeholders;
+
+    /**
+     * The index in the source at which each placeholder starts
+     */
+    @Nonnull
+    private final int[] starts;
+
+    private final boolean wellFormed;
+
+    private Template(@Nonnull String source, @Nonnull String[] placeholders, @Nonnull int[] starts, boolean wellFormed) {
+        this.source = source;
+        this.placeholders = placeholders;
+        this.starts = starts;
+        this.wellFormed = wellFormed;
+    }
+
+    /**
+     * Compiles a String into a template
+     * @param source The String to compile
+     * @return The compiled template, or null if the source was null
+     */
+    @Contract("null -> null; !null -> !null")
+    public static Template compile(@Nullable String source) {
+        if (source == null) {
+            return null;
+        }
+        if (source.isEmpty()) {
+            return EMPTY;
+        }
+
+        int next = source.indexOf(DELIMITER);
+        if (next == -1) {
+            return new Template(source, NO_PLACEHOLDERS, NO_STARTS, true);
+        }
+
+        List<String> placeholders = new ArrayList<>(4);
+        List<Integer> starts = new ArrayList<>(4);
+        boolean wellFormed = true;
+
+        int length = source.length();
+        while (next != -1) {
+            int end = closingDelimiter(source, next, length);
+            if (end == -1) {
+                // a delimiter that is not part of a placeholder
+                wellFormed = false;
+                break;
+            }
+
+            placeholders.add(source.substring(next, end + 1));
+            starts.add(next);
+            next = source.indexOf(DELIMITER, end + 1);
+        }
+
+        int[] startArray = new int[starts.size()];
+        for (int i = 0; i < startArray.length; i++) {
+            startArray[i] = starts.get(i);
+        }
+        return new Template(source, placeholders.toArray(NO_PLACEHOLDERS), startArray, wellFormed);
+    }
+
+    /**
+     * Compiles a list of Strings into templates
+     * @param sources The Strings to compile
+     * @return A new list of templates, or null if the sources were null
+     */
+    @Contract("null -> null; !null -> !null")
+    public static List<Template> compile(@Nullable List<String> sources) {
+        if (sources == null) {
+            return null;
+        }
+        if (sources.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Template> templates = new ArrayList<>(sources.size());
+        for (String source : sources) {
+            templates.add(compile(source));
+        }
+        return templates;
+    }
+
+    /**
+     * @return true if the given String consists of exactly one placeholder slot, for example "%player_name%"
+     */
+    public static boolean isPlaceholder(@Nullable String s) {
+        if (s == null || s.length() < 3 || s.charAt(0) != DELIMITER) {
+            return false;
+        }
+        return closingDelimiter(s, 0, s.length()) == s.length() - 1;
+    }
+
+    /**
+     * @return the index of the delimiter that closes the placeholder opened at the given index, or -1 if the opening
+     * delimiter is not part of a placeholder.
+     */
+    private static int closingDelimiter(String s, int open, int length) {
+        for (int i = open + 1; i < length; i++) {
+            char c = s.charAt(i);
+            if (c == DELIMITER) {
+                return i == open + 1 ? -1 : i; // placeholder identifier may not be empty
+            } else if (Character.isWhitespace(c)) {
+                return -1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return The String this template was compiled from
+     */
+    @Nonnull
+    public String source() {
+        return source;
+    }
+
+    /**
+     * @return true if the source does not contain the placeholder delimiter at all, meaning that no %-based
+     * placeholder could possibly be resolved in it.
+     */
+    public boolean isStatic() {
+        return wellFormed && placeholders.length == 0;
+    }
+
+    /**
+     * @return true if every delimiter in the source belongs to a placeholder slot, which means that
+     * {@link #fill(Function)} may be used.
+     */
+    public boolean isWellFormed() {
+        return wellFormed;
+    }
+
+    /**
+     * @return The placeholders (including delimiters) in the order they appear. Placeholders may be repeated. If this
+     * template is not well formed, this may not include every placeholder in the source.
+     */
+    @Nonnull
+    public List<String> placeholders() {
+        return Collections.unmodifiableList(Arrays.asList(placeholders));
+    }
+
+    /**
+     * Fills every placeholder slot in a single pass.
+     * @param values Function that returns the value of a given placeholder (including delimiters), or null if the
+     *               placeholder should be left as it is.
+     * @return The filled String. If no placeholder had a value, the exact same instance as {@link #source()} is returned.
+     * @throws IllegalStateException if this template is not well formed
+     */
+    @Nonnull
+    public String fill(@Nonnull Function<String, String> values) {
+        if (!wellFormed) {
+            throw new IllegalStateException("Cannot fill a template that is not well formed: " + source);
+        }
+
+        StringBuilder builder = null;
+        int last = 0; // end of the previous slot that was replaced
+        for (int i = 0; i < placeholders.length; i++) {
+            String value = values.apply(placeholders[i]);
+            if (value != null) {
+                if (builder == null) {
+                    builder = new StringBuilder(source.length() + 16);
+                }
+                builder.append(source, last, starts[i]).append(value);
+                last = starts[i] + placeholders[i].length();
+            }
+        }
+
+        if (builder == null) {
+            return source;
+        }
+        return builder.append(source, last, source.length()).toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof Template)) return false;
+        return source.equals(((Template) o).source);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source);
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
@@ -0,0 +1,27 @@
+package dev.kejona.crossplatforms.session;
+
+import dev.kejona.crossplatforms.handler.FormPlayer;
+
+import javax.annotation.Nonnull;
+import java.util.UUID;
+
+/**
+ * Any class that holds state for specific players should implement this interface, so that the state can be discarded
+ * when the player leaves.
+ */
+public interface SessionListener {
+
+    /**
+     * Called after a player has joined the server or proxy.
+     * @param player The player
+     */
+    default void onJoin(@Nonnull FormPlayer player) {
+        // no-op
+    }
+
+    /**
+     * Called after a player has left the server or proxy.
+     * @param uuid The UUID of the player
+     */
+    void onQuit(@Nonnull UUID uuid);
+}
@@ -0,0 +1,59 @@
+package dev.kejona.crossplatforms.session;
+
+import dev.kejona.crossplatforms.Logger;
+import dev.kejona.crossplatforms.handler.FormPlayer;
+
+import javax.annotation.Nonnull;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArraySet;
+
+public class SessionRegistry {
+
+    /**
+     * A set of instances that implement the SessionListener interface
+     */
+    private static final Set<SessionListener> listeners = new CopyOnWriteArraySet<>();
+
+    public static void clear() {
+        listeners.clear();
+    }
+
+    /**
+     * Register a session listener
+     * @param listener the listener
+     */
+    public static void register(@Nonnull SessionListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Notifies all listeners that a player has joined. Should be called by the implementation.
+     * @param player The player
+     */
+    public static void join(@Nonnull FormPlayer player) {
+        for (SessionListener listener : listeners) {
+            try {
+                listener.onJoin(player);
+            } catch (Exception e) {
+                Logger.get().severe("Failed to set up " + player.getName() + " in " + listener.getClass().getSimpleName());
+                e.printStackTrace();
+            }
+        }
+    }
+
+    /**
+     * Notifies all listeners that a player has left. Should be called by the implementation.
+     * @param uuid The UUID of the player
+     */
+    public static void quit(@Nonnull UUID uuid) {
+        for (SessionListener listener : listeners) {
+            try {
+                listener.onQuit(uuid);
+            } catch (Exception e) {
+                Logger.get().severe("Failed to clean up " + uuid + " in " + listener.getClass().getSimpleName());
+                e.printStackTrace();
+            }
+        }
+    }
+}
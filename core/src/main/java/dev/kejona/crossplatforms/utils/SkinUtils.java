@@ -1,68 +1,115 @@
 package dev.kejona.crossplatforms.utils;
 
-import com.google.gson.Gson;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
 import java.nio.charset.StandardCharsets;
 import java.util.Base64;
-import java.util.Objects;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 public final class SkinUtils {
 
-    private static final Gson GSON = new Gson();
-    private static final Pattern URL_PATTERN = Pattern.compile("(http|https)://textures\\.minecraft\\.net/texture/([a-zA-Z0-9]+)");
+    private static final String HTTP_PREFIX = "http://textures.minecraft.net/texture/";
+    private static final String HTTPS_PREFIX = "https://textures.minecraft.net/texture/";
 
     private SkinUtils() {
 
     }
 
+    /**
+     * Reads the skin url from an encoded textures value, without building a tree of the whole value.
+     * @param encodedData The base64 encoded textures value
+     * @return The skin url
+     * @throws IllegalArgumentException if the value could not be decoded, or if it doesn't contain a skin url
+     */
     @Nonnull
     public static String urlFromEncoding(@Nonnull String encodedData) throws IllegalArgumentException {
         // See https://wiki.vg/Mojang_API#UUID_to_Profile_and_Skin.2FCape
-        JsonObject json;
-        try {
-            String decoded = new String(Base64.getDecoder().decode(encodedData), StandardCharsets.UTF_8);
-            json = GSON.fromJson(decoded, JsonObject.class);
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Failed to decode base64 textures value: " + encodedData, e);
-        }
-
-        JsonObject textures = json.getAsJsonObject("textures");
-        if (textures == null) {
-            throw new IllegalArgumentException("textures member missing in " + encodedData);
-        }
+        // base64 only contains ascii, so no charset conversion is needed for the input
+        byte[] encoded = encodedData.getBytes(StandardCharsets.ISO_8859_1);
+        try (JsonReader reader = new JsonReader(new InputStreamReader(
+            Base64.getDecoder().wrap(new ByteArrayInputStream(encoded)),
+            StandardCharsets.UTF_8
+        ))) {
+            reader.setLenient(true); // same as Gson#fromJson
+            if (!enter(reader, "textures")) {
+                throw new IllegalArgumentException("textures member missing in " + encodedData);
+            }
+            if (!enter(reader, "SKIN")) {
+                throw new IllegalArgumentException("SKIN member missing in " + encodedData);
+            }
 
-        JsonObject skin = textures.getAsJsonObject("SKIN");
-        if (skin == null) {
-            throw new IllegalArgumentException("SKIN member missing in " + encodedData);
-        }
-
-        JsonElement url = skin.get("url");
-        if (url == null) {
+            // the rest of the value doesn't need to be read once the url is found
+            reader.beginObject();
+            while (reader.hasNext()) {
+                if (reader.nextName().equals("url") && reader.peek() == JsonToken.STRING) {
+                    return reader.nextString();
+                }
+                reader.skipValue();
+            }
             throw new IllegalArgumentException("url member missing in " + encodedData);
+        } catch (IOException | IllegalStateException e) {
+            // malformed base64 or json
+            throw new IllegalArgumentException("Failed to decode base64 textures value: " + encodedData, e);
         }
+    }
 
-        try {
-            return Objects.requireNonNull(url.getAsString(), "url as string");
-        } catch (Exception e) {
-            throw new IllegalArgumentException("Failed to get url element in " + encodedData, e);
+    /**
+     * Advances the reader into the value of the given member of the next object, skipping every other member.
+     * @return false if the object doesn't have the member, or if its value is not an object
+     */
+    private static boolean enter(JsonReader reader, String member) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals(member)) {
+                return reader.peek() == JsonToken.BEGIN_OBJECT;
+            }
+            reader.skipValue();
         }
+        return false;
     }
 
     @Nonnull
     public static String idFromUrl(@Nonnull String skinUrl) throws IllegalArgumentException {
-        Matcher matcher = URL_PATTERN.matcher(skinUrl);
-        if (matcher.matches()) {
-            return matcher.group(2);
-        } else {
+        String id = idFromUrlOrNull(skinUrl);
+        if (id == null) {
             throw new IllegalArgumentException("Skin url has unexpected format: " + skinUrl);
         }
+        return id;
+    }
+
+    @Nullable
+    private static String idFromUrlOrNull(String skinUrl) {
+        int start;
+        if (skinUrl.startsWith(HTTPS_PREFIX)) {
+            start = HTTPS_PREFIX.length();
+        } else if (skinUrl.startsWith(HTTP_PREFIX)) {
+            start = HTTP_PREFIX.length();
+        } else {
+            return null;
+        }
+
+        int length = skinUrl.length();
+        if (start == length) {
+            return null;
+        }
+        for (int i = start; i < length; i++) {
+            char c = skinUrl.charAt(i);
+            if (!((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9'))) {
+                return null;
+            }
+        }
+        return skinUrl.substring(start);
     }
 
+    /**
+     * Gets the texture ID of an encoded textures value.
+     * @throws IllegalArgumentException if the value could not be decoded, or if its skin url has an unexpected format
+     */
     @Nonnull
     public static String idFromEncoding(@Nonnull String encodedData) throws IllegalArgumentException {
         return idFromUrl(urlFromEncoding(encodedData));
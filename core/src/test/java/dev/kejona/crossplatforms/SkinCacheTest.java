@@ -0,0 +1,132 @@
+package dev.kejona.crossplatforms;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.annotation.Nullable;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.Base64;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class SkinCacheTest {
+
+    private static final String AVATAR = "https://mc-heads.net/avatar/";
+    private static final String FIRST = "1a4af718455d4aab528e7a61f86fa25e6a369d1768dcb13f7df319a713eb810b";
+    private static final String SECOND = "2b5bf829566e5bbc639f8b72097fb36f7b47ae2879edc24f8ef42ab824fc921c";
+
+    private final TestLogger logger = new TestLogger();
+
+    /**
+     * Runs tasks immediately, like the default implementation of ServerHandler#executeAsync
+     */
+    private final Executor immediate = Runnable::run;
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    public void testWarmAfterRestart() {
+        Path file = directory.resolve("skin-cache.json");
+        UUID uuid = UUID.randomUUID();
+
+        SkinCache cache = new SkinCache(immediate, file);
+        cache.load();
+        cache.onJoin(new SkinnedPlayer(uuid, encode(FIRST, 1)));
+        assertEquals(0, cache.getTextureHits());
+        assertEquals(1, cache.getTextureMisses());
+        cache.save();
+
+        // the textures value of the same skin has a different timestamp every time it is fetched
+        SkinnedPlayer player = new SkinnedPlayer(uuid, encode(FIRST, 2));
+        SkinCache restarted = new SkinCache(immediate, file);
+        restarted.load();
+        assertEquals(1, restarted.getTextureCount());
+        restarted.onJoin(player);
+        assertEquals(1, restarted.getTextureHits());
+        assertEquals(0, restarted.getTextureMisses());
+        assertEquals(AVATAR + FIRST, restarted.getAvatarUrl(player));
+        assertFalse(logger.failed(), logger.warningDump());
+    }
+
+    @Test
+    public void testRevalidateOnJoin() {
+        UUID uuid = UUID.randomUUID();
+        SkinCache cache = new SkinCache(immediate, null);
+
+        cache.onJoin(new SkinnedPlayer(uuid, encode(FIRST, 1)));
+        cache.onQuit(uuid);
+
+        // the known texture is replaced once the new skin is decoded
+        SkinnedPlayer changed = new SkinnedPlayer(uuid, encode(SECOND, 2));
+        cache.onJoin(changed);
+        assertEquals(AVATAR + SECOND, cache.getAvatarUrl(changed));
+
+        SkinnedPlayer removed = new SkinnedPlayer(uuid, null);
+        cache.onJoin(removed);
+        assertEquals(AVATAR + "MHF_Steve", cache.getAvatarUrl(removed));
+        assertEquals(0, cache.getTextureCount());
+    }
+
+    @Test
+    public void testQuitBeforeRevalidation() {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        SkinCache cache = new SkinCache(tasks::add, null);
+        UUID uuid = UUID.randomUUID();
+
+        cache.onJoin(new SkinnedPlayer(uuid, encode(FIRST, 1)));
+        cache.onQuit(uuid);
+        tasks.remove().run();
+
+        // the texture is still remembered, but the avatar isn't cached for a player that has left
+        assertEquals(1, cache.getTextureCount());
+        assertEquals(AVATAR + FIRST, cache.getAvatarUrl(new SkinnedPlayer(uuid, null)));
+        assertEquals(1, cache.getStats().missCount());
+    }
+
+    @Test
+    public void testUnknownPlayer() {
+        SkinCache cache = new SkinCache(immediate, null);
+        SkinnedPlayer player = new SkinnedPlayer(UUID.randomUUID(), encode(FIRST, 1));
+
+        assertEquals(AVATAR + FIRST, cache.getAvatarUrl(player));
+        assertEquals(AVATAR + FIRST, cache.getAvatarUrl(player));
+        assertEquals(1, cache.getTextureMisses());
+        assertEquals(1, cache.getStats().hitCount());
+    }
+
+    private static String encode(String id, long timestamp) {
+        String json = "{\"timestamp\":" + timestamp + ",\"profileName\":\"Herobrine\","
+            + "\"textures\":{\"SKIN\":{\"url\":\"http://textures.minecraft.net/texture/" + id + "\"}}}";
+        return Base64.getEncoder().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static class SkinnedPlayer extends FakePlayer {
+
+        private final UUID uuid;
+        @Nullable
+        private final String skin;
+
+        private SkinnedPlayer(UUID uuid, @Nullable String skin) {
+            this.uuid = uuid;
+            this.skin = skin;
+        }
+
+        @Override
+        public UUID getUuid() {
+            return uuid;
+        }
+
+        @Nullable
+        @Override
+        public String getEncodedSkinData() {
+            return skin;
+        }
+    }
+}
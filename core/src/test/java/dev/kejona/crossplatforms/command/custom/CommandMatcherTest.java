@@ -0,0 +1,138 @@
+package dev.kejona.crossplatforms.command.custom;
+
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class CommandMatcherTest {
+
+    private final List<Command> commands = new ArrayList<>();
+
+    @Test
+    public void testFirstWord() {
+        assertEquals("warp", CommandMatcher.firstWord(Pattern.compile("warp [a-z]+")));
+        assertEquals("warp", CommandMatcher.firstWord(Pattern.compile("^warp \\w+")));
+        assertEquals("spawn", CommandMatcher.firstWord(Pattern.compile("spawn")));
+        assertEquals("server", CommandMatcher.firstWord("server lobby"));
+
+        assertNull(CommandMatcher.firstWord(Pattern.compile("warps? .*")));
+        assertNull(CommandMatcher.firstWord(Pattern.compile("warp\\w* .*")));
+        assertNull(CommandMatcher.firstWord(Pattern.compile("warp *[a-z]+"))); // the space is optional
+        assertNull(CommandMatcher.firstWord(Pattern.compile("(?i)warp .*")));
+        assertNull(CommandMatcher.firstWord(Pattern.compile("warp .*", Pattern.CASE_INSENSITIVE)));
+        assertNull(CommandMatcher.firstWord(Pattern.compile(".* warp")));
+        assertNull(CommandMatcher.firstWord(Pattern.compile("warp home|spawn")));
+        assertNull(CommandMatcher.firstWord(Pattern.compile("warp (home|spawn)")));
+    }
+
+    @Test
+    public void testMatching() {
+        exact("menu", "menu");
+        exact("menu-two", "menu two");
+        pattern("warps", "warp [a-z]+");
+        pattern("any-server", "(server|hub) .*");
+        pattern("server-lobby", "server lobby");
+        pattern("home-or-spawn", "home .*|spawn");
+        exact("replaced", "spawn");
+        exact("spawn", "spawn");
+
+        CommandMatcher<Command> matcher = matcher();
+        assertMatch(matcher, "menu", "menu");
+        assertMatch(matcher, "menu-two", "menu two");
+        assertMatch(matcher, null, "menu three");
+        assertMatch(matcher, null, "menus");
+        assertMatch(matcher, "warps", "warp home");
+        assertMatch(matcher, null, "warp Home");
+        assertMatch(matcher, null, "warp");
+        assertMatch(matcher, "any-server", "hub a");
+        assertMatch(matcher, "any-server", "server lobby"); // patterns are tried in order
+        assertMatch(matcher, "spawn", "spawn"); // the last exact command is used
+        assertMatch(matcher, "home-or-spawn", "home bed"); // either alternative
+        assertMatch(matcher, null, "");
+        assertMatch(matcher, null, "unknown command");
+    }
+
+    @Test
+    public void testAlternatives() {
+        pattern("alt", "warp home|spawn");
+        exact("warp", "warp");
+
+        CommandMatcher<Command> matcher = matcher();
+        assertMatch(matcher, "alt", "warp home");
+        assertMatch(matcher, "alt", "spawn"); // not only tried for commands starting with "warp"
+        assertMatch(matcher, "warp", "warp");
+        assertMatch(matcher, null, "warp spawn");
+    }
+
+    @Test
+    public void testPreferExact() {
+        pattern("pattern", "menu .*");
+        exact("exact", "menu two");
+
+        CommandMatcher<Command> matcher = matcher();
+        assertMatch(matcher, "exact", "menu two");
+        assertMatch(matcher, "pattern", "menu three");
+    }
+
+    @Test
+    public void testMany() {
+        for (int i = 0; i < 100; i++) {
+            exact("exact" + i, "alias" + i);
+            pattern("pattern" + i, "command" + i + " \\d+");
+        }
+
+        CommandMatcher<Command> matcher = matcher();
+        for (int i = 0; i < 100; i++) {
+            assertMatch(matcher, "exact" + i, "alias" + i);
+            assertMatch(matcher, "pattern" + i, "command" + i + " 5");
+            assertMatch(matcher, null, "command" + i + " x");
+        }
+    }
+
+    @Test
+    public void testEmpty() {
+        assertMatch(matcher(), null, "menu");
+        assertMatch(matcher(), null, "");
+    }
+
+    private void assertMatch(CommandMatcher<Command> matcher, @Nullable String expected, String input) {
+        Command command = matcher.find(input, 0);
+        assertEquals(expected, command == null ? null : command.name, input);
+
+        // the same as skipping a slash
+        command = matcher.find("/" + input, 1);
+        assertEquals(expected, command == null ? null : command.name, "/" + input);
+    }
+
+    private CommandMatcher<Command> matcher() {
+        return new CommandMatcher<>(commands, c -> c.exact, c -> c.pattern);
+    }
+
+    private void exact(String name, String exact) {
+        commands.add(new Command(name, exact, null));
+    }
+
+    private void pattern(String name, String pattern) {
+        commands.add(new Command(name, null, Pattern.compile(pattern)));
+    }
+
+    private static class Command {
+        private final String name;
+        @Nullable
+        private final String exact;
+        @Nullable
+        private final Pattern pattern;
+
+        private Command(String name, @Nullable String exact, @Nullable Pattern pattern) {
+            this.name = name;
+            this.exact = exact;
+            this.pattern = pattern;
+        }
+    }
+}
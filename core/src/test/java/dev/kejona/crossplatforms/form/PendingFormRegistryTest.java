@@ -0,0 +1,77 @@
+package dev.kejona.crossplatforms.form;
+
+import dev.kejona.crossplatforms.TestLogger;
+import dev.kejona.crossplatforms.interfacing.bedrock.PendingForm;
+import dev.kejona.crossplatforms.interfacing.bedrock.PendingFormRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PendingFormRegistryTest {
+
+    private static final UUID PLAYER = UUID.randomUUID();
+    private static final UUID OTHER = UUID.randomUUID();
+
+    private final TestLogger logger = new TestLogger();
+
+    @Test
+    public void testComplete() {
+        PendingFormRegistry registry = new PendingFormRegistry(5, 60_000);
+        PendingForm<String> form = registry.track(PLAYER, "form", "handlers");
+        assertEquals(1, registry.size());
+        assertTrue(form.isPending());
+
+        assertEquals("handlers", form.complete());
+        assertFalse(form.isPending());
+        assertEquals(0, registry.size());
+
+        // a form can only be responded to once
+        assertNull(form.complete());
+    }
+
+    @Test
+    public void testMaximum() {
+        PendingFormRegistry registry = new PendingFormRegistry(2, 60_000);
+        PendingForm<String> first = registry.track(PLAYER, "first", "1");
+        PendingForm<String> second = registry.track(PLAYER, "second", "2");
+        PendingForm<String> other = registry.track(OTHER, "other", "3");
+        PendingForm<String> third = registry.track(PLAYER, "third", "4");
+
+        assertEquals(2, registry.getPending(PLAYER).size());
+        assertEquals(3, registry.size());
+        assertNull(first.complete());
+        assertEquals("2", second.complete());
+        assertEquals("4", third.complete());
+        assertEquals("3", other.complete());
+    }
+
+    @Test
+    public void testTimeout() throws InterruptedException {
+        PendingFormRegistry registry = new PendingFormRegistry(0, 1);
+        PendingForm<String> form = registry.track(PLAYER, "form", "handlers");
+        Thread.sleep(10);
+        assertNull(form.complete());
+        assertEquals(0, registry.size());
+    }
+
+    @Test
+    public void testQuitAndClear() {
+        PendingFormRegistry registry = new PendingFormRegistry(5, 60_000);
+        PendingForm<String> form = registry.track(PLAYER, "form", "handlers");
+        PendingForm<String> other = registry.track(OTHER, "form", "handlers");
+
+        registry.onQuit(PLAYER);
+        assertFalse(form.isPending());
+        assertNull(form.complete());
+        assertEquals(1, registry.size());
+
+        assertEquals(1, registry.clear());
+        assertFalse(other.isPending());
+        assertTrue(registry.getPlayers().isEmpty());
+    }
+}
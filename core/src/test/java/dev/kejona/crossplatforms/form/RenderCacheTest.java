@@ -0,0 +1,58 @@
+package dev.kejona.crossplatforms.form;
+
+import dev.kejona.crossplatforms.TestLogger;
+import dev.kejona.crossplatforms.interfacing.RenderCache;
+import dev.kejona.crossplatforms.resolver.MapResolver;
+import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+public class RenderCacheTest {
+
+    private static final UUID PLAYER = UUID.randomUUID();
+
+    private final TestLogger logger = new TestLogger();
+
+    @Test
+    public void testCreate() {
+        List<Template> templates = Template.compile(Arrays.asList("Balance: %balance%", "Static"));
+        assertNull(RenderCache.create(0, templates));
+        assertNull(RenderCache.create(1000, Template.compile(Arrays.asList("100%", "%balance%"))));
+        assertNotNull(RenderCache.create(1000, templates));
+    }
+
+    @Test
+    public void testFingerprint() {
+        RenderCache<String> cache = RenderCache.create(60_000, Template.compile(Arrays.asList("%balance% %rank%", "%balance%")));
+        assertNotNull(cache);
+
+        Map<String, String> values = new HashMap<>();
+        values.put("%balance%", "100");
+        values.put("%rank%", "Admin");
+        Resolver resolver = new MapResolver(values);
+
+        List<String> fingerprint = cache.fingerprint(resolver);
+        assertEquals(Arrays.asList("100", "Admin"), fingerprint);
+        assertNull(cache.get(PLAYER, fingerprint));
+
+        cache.put(PLAYER, fingerprint, "rendered");
+        assertEquals("rendered", cache.get(PLAYER, cache.fingerprint(resolver)));
+        assertNull(cache.get(UUID.randomUUID(), fingerprint));
+
+        values.put("%balance%", "101");
+        assertNull(cache.get(PLAYER, cache.fingerprint(new MapResolver(values))));
+
+        cache.invalidate(PLAYER);
+        assertNull(cache.get(PLAYER, fingerprint));
+    }
+}
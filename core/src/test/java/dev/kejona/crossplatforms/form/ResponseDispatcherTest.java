@@ -0,0 +1,141 @@
+package dev.kejona.crossplatforms.form;
+
+import dev.kejona.crossplatforms.TestLogger;
+import dev.kejona.crossplatforms.interfacing.bedrock.ResponseDispatcher;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Queue;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResponseDispatcherTest {
+
+    private final TestLogger logger = new TestLogger();
+
+    /**
+     * Scheduled tasks, which are run on each "tick"
+     */
+    private final Queue<Runnable> scheduler = new ArrayDeque<>();
+
+    @Test
+    public void testCoalesced() {
+        ResponseDispatcher dispatcher = new ResponseDispatcher(scheduler::add);
+        List<Integer> ran = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            int n = i;
+            dispatcher.dispatch(() -> ran.add(n));
+        }
+        assertEquals(1, scheduler.size());
+        assertTrue(ran.isEmpty());
+
+        tick();
+        assertEquals(100, ran.size());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i, ran.get(i));
+        }
+        assertEquals(0, dispatcher.size());
+        assertTrue(scheduler.isEmpty());
+
+        // a new drain is scheduled once the last one has finished
+        dispatcher.dispatch(() -> ran.add(100));
+        assertEquals(1, scheduler.size());
+        tick();
+        assertEquals(101, ran.size());
+    }
+
+    @Test
+    public void testOverflow() {
+        // no budget, so only one handler runs per drain
+        ResponseDispatcher dispatcher = new ResponseDispatcher(scheduler::add, 0);
+        List<String> ran = new ArrayList<>();
+        dispatcher.dispatch(() -> ran.add("a"));
+        dispatcher.dispatch(() -> ran.add("b"));
+        dispatcher.dispatch(() -> ran.add("c"));
+        assertEquals(1, scheduler.size());
+
+        tick();
+        assertEquals(Collections.singletonList("a"), ran);
+        assertEquals(1, scheduler.size());
+
+        dispatcher.dispatch(() -> ran.add("d"));
+        assertEquals(1, scheduler.size()); // still carried by the existing drain
+
+        tick();
+        tick();
+        tick();
+        assertEquals(Arrays.asList("a", "b", "c", "d"), ran);
+        assertTrue(scheduler.isEmpty());
+    }
+
+    @Test
+    public void testException() {
+        ResponseDispatcher dispatcher = new ResponseDispatcher(scheduler::add);
+        List<String> ran = new ArrayList<>();
+        dispatcher.dispatch(() -> {
+            throw new IllegalStateException("handler failure");
+        });
+        dispatcher.dispatch(() -> ran.add("a"));
+
+        tick();
+        assertEquals(Collections.singletonList("a"), ran);
+    }
+
+    @Test
+    public void testDispatchDuringDrain() {
+        ResponseDispatcher dispatcher = new ResponseDispatcher(scheduler::add);
+        List<String> ran = new ArrayList<>();
+        dispatcher.dispatch(() -> {
+            ran.add("a");
+            dispatcher.dispatch(() -> ran.add("b"));
+        });
+
+        tick();
+        assertEquals(Arrays.asList("a", "b"), ran);
+        assertTrue(scheduler.isEmpty());
+    }
+
+    @Test
+    public void testImmediateExecutor() {
+        // an executor that doesn't defer anything, with every handler overrunning the budget
+        ResponseDispatcher dispatcher = new ResponseDispatcher(Runnable::run, 0);
+        List<Integer> ran = new ArrayList<>();
+        dispatcher.dispatch(() -> {
+            for (int i = 0; i < 100_000; i++) {
+                int n = i;
+                dispatcher.dispatch(() -> ran.add(n));
+            }
+        });
+
+        // the handlers carried over are run in a loop, rather than recursively
+        assertEquals(100_000, ran.size());
+        assertEquals(0, dispatcher.size());
+    }
+
+    @Test
+    public void testDirect() {
+        ResponseDispatcher dispatcher = ResponseDispatcher.direct();
+        List<String> ran = new ArrayList<>();
+        dispatcher.dispatch(() -> ran.add("a"));
+        assertEquals(Collections.singletonList("a"), ran);
+
+        dispatcher.dispatch(() -> {
+            throw new IllegalStateException("handler failure");
+        });
+        dispatcher.dispatch(() -> ran.add("b"));
+        assertEquals(Arrays.asList("a", "b"), ran);
+        assertEquals(0, dispatcher.size());
+    }
+
+    private void tick() {
+        int tasks = scheduler.size();
+        for (int i = 0; i < tasks; i++) {
+            scheduler.poll().run();
+        }
+    }
+}
@@ -5,6 +5,7 @@ import dev.kejona.crossplatforms.FakePlayer;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.interfacing.bedrock.custom.Input;
 import dev.kejona.crossplatforms.parser.BlockPlaceholderParser;
+import dev.kejona.crossplatforms.parser.PlaceholderParser;
 import dev.kejona.crossplatforms.parser.ReplacementParser;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
@@ -44,6 +45,18 @@ public class InputComponentTest {
         Assertions.assertEquals("aa aa", cascading.parse(player, "ab ba"));
     }
 
+    @Test
+    public void testParseThreadSafety() {
+        Input input = blankInput();
+        Assertions.assertTrue(input.isParseThreadSafe());
+        input.parser(new BlockPlaceholderParser());
+        input.parser(new ReplacementParser(ImmutableMap.of(" ", "-")));
+        Assertions.assertTrue(input.isParseThreadSafe());
+        input.parser(new PlaceholderParser());
+        Assertions.assertFalse(input.isParseThreadSafe());
+        Assertions.assertFalse(input.copy().isParseThreadSafe());
+    }
+
     private static Input blankInput() {
         return Input.builder().build();
     }
@@ -4,10 +4,14 @@ import dev.kejona.crossplatforms.FakePlayer;
 import dev.kejona.crossplatforms.context.PlayerContext;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.interfacing.bedrock.custom.Input;
+import dev.kejona.crossplatforms.interfacing.bedrock.custom.Option;
 import dev.kejona.crossplatforms.resolver.Resolver;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.Arrays;
+import java.util.List;
+
 public class ResolvePlaceholdersTest {
 
     private static final FormPlayer PLAYER = new FakePlayer();
@@ -32,4 +36,19 @@ public class ResolvePlaceholdersTest {
         setActual.prepare(CONTEXT);
         Assertions.assertEquals(setActual, expected);
     }
+
+    @Test
+    public void resolveOptionsTest() {
+        List<Option> unchanged = Arrays.asList(new Option("first"), new Option("second", "2"));
+        Assertions.assertSame(unchanged, Option.with(unchanged, RESOLVER));
+
+        Option first = new Option("first");
+        List<Option> options = Arrays.asList(first, new Option("%1%"), new Option("third", "%two%"));
+        List<Option> resolved = Option.with(options, RESOLVER);
+        Assertions.assertNotSame(options, resolved);
+        Assertions.assertSame(first, resolved.get(0));
+        Assertions.assertEquals("one", resolved.get(1).display());
+        Assertions.assertEquals("third", resolved.get(2).display());
+        Assertions.assertEquals("2", resolved.get(2).returnText());
+    }
 }
@@ -0,0 +1,87 @@
+package dev.kejona.crossplatforms.handler;
+
+import dev.kejona.crossplatforms.TestLogger;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PlayerExecutorTest {
+
+    private final TestLogger logger = new TestLogger();
+
+    /**
+     * Tasks handed to the underlying executor, which are run manually
+     */
+    private final Queue<Runnable> scheduled = new ArrayDeque<>();
+    private final PlayerExecutor executor = new PlayerExecutor(scheduled::add);
+    private final List<String> ran = new ArrayList<>();
+
+    @Test
+    public void testOrderPerPlayer() {
+        UUID alice = UUID.randomUUID();
+        UUID bob = UUID.randomUUID();
+
+        executor.execute(alice, () -> ran.add("alice 1"));
+        executor.execute(alice, () -> ran.add("alice 2"));
+        executor.execute(bob, () -> ran.add("bob 1"));
+        executor.execute(alice, () -> ran.add("alice 3"));
+
+        // one task is scheduled per player, which runs the tasks queued behind it
+        assertEquals(2, scheduled.size());
+        assertEquals(2, executor.size());
+
+        runScheduled();
+        assertEquals(Arrays.asList("alice 1", "alice 2", "alice 3", "bob 1"), ran);
+        assertEquals(0, executor.size());
+    }
+
+    @Test
+    public void testSubmitWhileRunning() {
+        UUID player = UUID.randomUUID();
+        executor.execute(player, () -> {
+            ran.add("first");
+            executor.execute(player, () -> ran.add("third"));
+            ran.add("second");
+        });
+
+        runScheduled();
+        assertEquals(Arrays.asList("first", "second", "third"), ran);
+        assertTrue(scheduled.isEmpty());
+        assertEquals(0, executor.size());
+    }
+
+    @Test
+    public void testFailureDoesNotBlock() {
+        UUID player = UUID.randomUUID();
+        executor.execute(player, () -> {
+            throw new IllegalStateException("expected by test");
+        });
+        executor.execute(player, () -> ran.add("after"));
+
+        runScheduled();
+        assertTrue(logger.failed());
+        assertEquals(Arrays.asList("after"), ran);
+        assertEquals(0, executor.size());
+
+        // a new task is scheduled once the queue is drained
+        executor.execute(player, () -> ran.add("later"));
+        assertEquals(1, scheduled.size());
+        runScheduled();
+        assertEquals(Arrays.asList("after", "later"), ran);
+    }
+
+    private void runScheduled() {
+        Runnable task;
+        while ((task = scheduled.poll()) != null) {
+            task.run();
+        }
+    }
+}
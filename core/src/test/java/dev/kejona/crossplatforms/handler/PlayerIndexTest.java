@@ -0,0 +1,57 @@
+package dev.kejona.crossplatforms.handler;
+
+import dev.kejona.crossplatforms.FakePlayer;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PlayerIndexTest {
+
+    @Test
+    public void testInitialOrder() {
+        PlayerIndex index = new PlayerIndex(Stream.of(new FakePlayer("charlie"), new FakePlayer("Alice"), new FakePlayer("bob")));
+        assertEquals(Arrays.asList("Alice", "bob", "charlie"), names(index));
+    }
+
+    @Test
+    public void testJoinAndQuit() {
+        PlayerIndex index = new PlayerIndex(Stream.empty());
+        assertTrue(index.snapshot().isEmpty());
+
+        FakePlayer bob = new FakePlayer("bob");
+        index.onJoin(new FakePlayer("Dave"));
+        index.onJoin(bob);
+        index.onJoin(new FakePlayer("alice"));
+        index.onJoin(new FakePlayer("Zed"));
+        index.onJoin(new FakePlayer("Carol"));
+        assertEquals(Arrays.asList("alice", "bob", "Carol", "Dave", "Zed"), names(index));
+
+        List<FormPlayer> snapshot = index.snapshot();
+        index.onQuit(bob.getUuid());
+        assertEquals(Arrays.asList("alice", "Carol", "Dave", "Zed"), names(index));
+        assertEquals(5, snapshot.size()); // snapshots are not affected by later changes
+
+        // joining twice doesn't duplicate the player
+        FakePlayer erin = new FakePlayer("erin");
+        index.onJoin(erin);
+        index.onJoin(erin);
+        assertEquals(Arrays.asList("alice", "Carol", "Dave", "erin", "Zed"), names(index));
+    }
+
+    @Test
+    public void testImmutable() {
+        PlayerIndex index = new PlayerIndex(Stream.of(new FakePlayer("alice")));
+        assertThrows(UnsupportedOperationException.class, () -> index.snapshot().clear());
+    }
+
+    private static List<String> names(PlayerIndex index) {
+        return index.snapshot().stream().map(FormPlayer::getName).collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,178 @@
+package dev.kejona.crossplatforms.interfacing.java;
+
+import com.google.inject.Guice;
+import com.google.inject.Injector;
+import dev.kejona.crossplatforms.TestLogger;
+import dev.kejona.crossplatforms.handler.FormPlayer;
+import dev.kejona.crossplatforms.inventory.InventoryFactory;
+import dev.kejona.crossplatforms.inventory.InventoryHandle;
+import dev.kejona.crossplatforms.inventory.InventoryLayout;
+import dev.kejona.crossplatforms.inventory.ItemHandle;
+import dev.kejona.crossplatforms.inventory.SkullProfile;
+import dev.kejona.crossplatforms.resolver.Resolver;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MenuPagesTest {
+
+    private static final List<Integer> SLOTS = Arrays.asList(10, 11, 12);
+    private static final int PREVIOUS = 18;
+    private static final int NEXT = 26;
+
+    private final TestLogger logger = new TestLogger();
+    private final Injector injector = Guice.createInjector(binder -> binder.bind(InventoryFactory.class).toInstance(new FakeFactory()));
+    private final Resolver resolver = Resolver.of(s -> s);
+
+    @Test
+    public void testPageCount() {
+        MenuPages pages = pages(SLOTS);
+        assertEquals(1, pages.pageCount(0));
+        assertEquals(1, pages.pageCount(2));
+        assertEquals(1, pages.pageCount(3));
+        assertEquals(2, pages.pageCount(4));
+        assertEquals(3, pages.pageCount(9));
+
+        // nowhere to place entries
+        assertEquals(1, pages(Collections.emptyList()).pageCount(5));
+    }
+
+    @Test
+    public void testEntryAt() {
+        List<MenuPages.Entry> entries = entries(7);
+        PageSession session = new PageSession(pages(SLOTS), entries);
+        assertEquals(3, session.pageCount());
+
+        assertSame(entries.get(0), session.entryAt(0, 10));
+        assertSame(entries.get(2), session.entryAt(0, 12));
+        assertSame(entries.get(4), session.entryAt(1, 11));
+        assertSame(entries.get(6), session.entryAt(2, 10));
+
+        // the rest of the last page is empty
+        assertNull(session.entryAt(2, 11));
+        assertNull(session.entryAt(2, 12));
+        // not a slot that entries are placed in
+        assertNull(session.entryAt(0, 13));
+        assertNull(session.entryAt(0, NEXT));
+        // past the last page
+        assertNull(session.entryAt(3, 10));
+    }
+
+    @Test
+    public void testNavigation() {
+        PageSession session = new PageSession(pages(SLOTS), entries(7));
+        assertFalse(session.hasPage(-1));
+        assertTrue(session.hasPage(2));
+        assertFalse(session.hasPage(3));
+
+        // no previous button on the first page, no next button on the last page
+        assertEquals(slots(10, 11, 12, NEXT), session.render(0, resolver).keySet());
+        assertEquals(slots(10, 11, 12, PREVIOUS, NEXT), session.render(1, resolver).keySet());
+        assertEquals(slots(10, PREVIOUS), session.render(2, resolver).keySet());
+    }
+
+    @Test
+    public void testSinglePage() {
+        PageSession empty = new PageSession(pages(SLOTS), entries(0));
+        assertEquals(1, empty.pageCount());
+        assertTrue(empty.render(0, resolver).isEmpty());
+
+        PageSession full = new PageSession(pages(SLOTS), entries(3));
+        assertEquals(1, full.pageCount());
+        assertEquals(slots(10, 11, 12), full.render(0, resolver).keySet());
+    }
+
+    @Test
+    public void testRenderOnce() {
+        PageSession session = new PageSession(pages(SLOTS), entries(4));
+        assertTrue(session.isPending(1));
+        Map<Integer, ItemHandle> items = session.render(1, resolver);
+        assertFalse(session.isPending(1));
+        assertSame(items, session.render(1, resolver));
+
+        // pages that don't exist are never pending
+        assertFalse(session.isPending(2));
+    }
+
+    @Test
+    public void testPlaceholders() {
+        Resolver page = MenuPages.pageResolver(1, 3, resolver);
+        assertEquals("Page 2 of 3", page.apply("Page %page% of %pages%"));
+        assertEquals("Page 1 of 1", MenuPages.pageResolver(0, 1, resolver).apply("Page %page% of %pages%"));
+
+        MenuPages.Entry generated = new MenuPages.Entry(button(), "Notch");
+        assertEquals("Notch (2/3)", generated.resolver(page).apply("%raw_text% (%page%/%pages%)"));
+
+        // configured entries have no raw value
+        MenuPages.Entry configured = new MenuPages.Entry(button(), null);
+        assertEquals("%raw_text% (2/3)", configured.resolver(page).apply("%raw_text% (%page%/%pages%)"));
+        assertFalse(logger.failed(), logger.warningDump());
+    }
+
+    private MenuPages pages(List<Integer> slots) {
+        return new MenuPages(slots, Collections.emptyList(), PREVIOUS, button(), NEXT, button());
+    }
+
+    private List<MenuPages.Entry> entries(int amount) {
+        List<MenuPages.Entry> entries = new ArrayList<>(amount);
+        for (int i = 0; i < amount; i++) {
+            entries.add(new MenuPages.Entry(button(), String.valueOf(i)));
+        }
+        return entries;
+    }
+
+    private ItemButton button() {
+        return injector.getInstance(ItemButton.class);
+    }
+
+    private static Set<Integer> slots(Integer... slots) {
+        return new HashSet<>(Arrays.asList(slots));
+    }
+
+    private static class FakeFactory implements InventoryFactory {
+
+        @Override
+        public InventoryHandle chest(String title, int chestSize) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public InventoryHandle inventory(String title, InventoryLayout layout) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ItemHandle item(@Nullable String material, @Nullable String displayName, @Nonnull List<String> lore, @Nullable Integer customModelData) {
+            return create();
+        }
+
+        @Override
+        public ItemHandle skullItem(FormPlayer profile, @Nullable String displayName, List<String> lore) {
+            return create();
+        }
+
+        @Override
+        public ItemHandle skullItem(SkullProfile profile, @Nullable String displayName, List<String> lore) {
+            return create();
+        }
+
+        private ItemHandle create() {
+            Object handle = new Object();
+            return () -> handle;
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package dev.kejona.crossplatforms.inventory;
+
+import dev.kejona.crossplatforms.handler.FormPlayer;
+import org.junit.jupiter.api.Test;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class CachingInventoryFactoryTest {
+
+    private final CountingFactory delegate = new CountingFactory();
+
+    @Test
+    public void testItems() {
+        CachingInventoryFactory factory = new CachingInventoryFactory(delegate);
+
+        ItemHandle diamond = factory.item("diamond", "Hub", Arrays.asList("Online: 5", "Click to join"), null);
+        assertSame(diamond, factory.item("diamond", "Hub", Arrays.asList("Online: 5", "Click to join"), null));
+        assertEquals(1, delegate.created);
+
+        // any difference is a different item
+        assertNotSame(diamond, factory.item("diamond", "Hub", Arrays.asList("Online: 6", "Click to join"), null));
+        assertNotSame(diamond, factory.item("diamond", "Hub", Arrays.asList("Online: 5", "Click to join"), 1));
+        assertNotSame(diamond, factory.item("emerald", "Hub", Arrays.asList("Online: 5", "Click to join"), null));
+        assertNotSame(diamond, factory.item("diamond", null, Arrays.asList("Online: 5", "Click to join"), null));
+        assertEquals(5, delegate.created);
+    }
+
+    @Test
+    public void testSkulls() {
+        CachingInventoryFactory factory = new CachingInventoryFactory(delegate);
+
+        ItemHandle owner = factory.skullItem(new SkullProfile("Notch", null), "Head", Collections.emptyList());
+        assertSame(owner, factory.skullItem(new SkullProfile("Notch", null), "Head", Collections.emptyList()));
+        assertNotSame(owner, factory.skullItem(new SkullProfile(null, "abc"), "Head", Collections.emptyList()));
+        assertNotSame(owner, factory.item(null, "Head", Collections.emptyList(), null));
+        assertEquals(3, delegate.created);
+    }
+
+    @Test
+    public void testEviction() {
+        CachingInventoryFactory factory = new CachingInventoryFactory(delegate, 2);
+
+        ItemHandle first = factory.item("stone", null, Collections.emptyList(), null);
+        factory.item("dirt", null, Collections.emptyList(), null);
+        factory.item("grass", null, Collections.emptyList(), null);
+        assertNotSame(first, factory.item("stone", null, Collections.emptyList(), null));
+        assertEquals(4, delegate.created);
+    }
+
+    private static class CountingFactory implements InventoryFactory {
+
+        private int created = 0;
+
+        @Override
+        public InventoryHandle chest(String title, int chestSize) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public InventoryHandle inventory(String title, InventoryLayout layout) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ItemHandle item(@Nullable String material, @Nullable String displayName, @Nonnull List<String> lore, @Nullable Integer customModelData) {
+            return create();
+        }
+
+        @Override
+        public ItemHandle skullItem(FormPlayer profile, @Nullable String displayName, List<String> lore) {
+            return create();
+        }
+
+        @Override
+        public ItemHandle skullItem(SkullProfile profile, @Nullable String displayName, List<String> lore) {
+            return create();
+        }
+
+        private ItemHandle create() {
+            created++;
+            Object handle = new Object();
+            return () -> handle;
+        }
+    }
+}
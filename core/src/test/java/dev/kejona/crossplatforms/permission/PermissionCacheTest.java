@@ -0,0 +1,82 @@
+package dev.kejona.crossplatforms.permission;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PermissionCacheTest {
+
+    private static final String PERMISSION = "crossplatforms.item.test.possess";
+
+    private final UUID player = UUID.randomUUID();
+
+    private long time = 0;
+    private final PermissionCache cache = new PermissionCache(1000, () -> time);
+
+    /**
+     * The permissions of {@link #player}, and how many times they have been checked
+     */
+    private final Map<String, Boolean> granted = new HashMap<>();
+    private int checks = 0;
+
+    private final Predicate<String> check = permission -> {
+        checks++;
+        return granted.getOrDefault(permission, false);
+    };
+
+    @Test
+    public void testRemembered() {
+        granted.put(PERMISSION, true);
+        assertTrue(cache.hasPermission(player, PERMISSION, check));
+        assertTrue(cache.hasPermission(player, PERMISSION, check));
+        assertEquals(1, checks);
+
+        // denials are remembered too
+        assertFalse(cache.hasPermission(player, "other", check));
+        assertFalse(cache.hasPermission(player, "other", check));
+        assertEquals(2, checks);
+
+        // other players have their own decisions
+        assertFalse(cache.hasPermission(UUID.randomUUID(), PERMISSION, p -> false));
+        assertTrue(cache.hasPermission(player, PERMISSION, check));
+        assertEquals(2, cache.size());
+    }
+
+    @Test
+    public void testExpiry() {
+        granted.put(PERMISSION, true);
+        assertTrue(cache.hasPermission(player, PERMISSION, check));
+
+        granted.put(PERMISSION, false);
+        time = 999;
+        assertTrue(cache.hasPermission(player, PERMISSION, check)); // still remembered
+        time = 1000;
+        assertFalse(cache.hasPermission(player, PERMISSION, check));
+        assertEquals(2, checks);
+    }
+
+    @Test
+    public void testInvalidation() {
+        granted.put(PERMISSION, true);
+        assertTrue(cache.hasPermission(player, PERMISSION, check));
+
+        granted.put(PERMISSION, false);
+        cache.invalidate(player);
+        assertFalse(cache.hasPermission(player, PERMISSION, check));
+
+        granted.put(PERMISSION, true);
+        assertTrue(cache.reload());
+        assertTrue(cache.hasPermission(player, PERMISSION, check));
+        assertEquals(3, checks);
+
+        cache.onQuit(player);
+        assertEquals(0, cache.size());
+    }
+}
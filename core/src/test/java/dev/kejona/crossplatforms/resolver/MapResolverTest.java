@@ -0,0 +1,46 @@
+package dev.kejona.crossplatforms.resolver;
+
+import dev.kejona.crossplatforms.TestLogger;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class MapResolverTest {
+
+    private final TestLogger logger = new TestLogger();
+
+    @Test
+    public void testResultPlaceholders() {
+        Map<String, String> map = new HashMap<>();
+        for (int i = 0; i < 20; i++) {
+            map.put("%result_" + i + "%", "value" + i);
+        }
+        MapResolver resolver = new MapResolver(map);
+
+        assertEquals("value1 value10 value19", resolver.apply("%result_1% %result_10% %result_19%"));
+        assertEquals("give value3 diamond value3", resolver.apply("give %result_3% diamond %result_3%"));
+        assertEquals("%result_20% 100%value0", resolver.apply("%result_20% 100%%result_0%"));
+
+        String plain = "no placeholders here";
+        assertSame(plain, resolver.apply(plain));
+        String unknown = "%player_name%";
+        assertSame(unknown, resolver.apply(unknown));
+    }
+
+    @Test
+    public void testArbitraryKeys() {
+        Map<String, String> map = new HashMap<>();
+        map.put("cat", "dog");
+        map.put("category", "group");
+        map.put("{x}", "1");
+        MapResolver resolver = new MapResolver(map);
+
+        // longest key wins, and keys are matched anywhere like String#replace
+        assertEquals("group dog condogenate 1", resolver.apply("category cat concatenate {x}"));
+        assertEquals("the dog {y} 1", resolver.apply("the cat {y} {x}"));
+    }
+}
@@ -0,0 +1,129 @@
+package dev.kejona.crossplatforms.resolver;
+
+import dev.kejona.crossplatforms.TestLogger;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TemplateTest {
+
+    private final TestLogger logger = new TestLogger();
+
+    @Test
+    public void testCompile() {
+        assertNull(Template.compile((String) null));
+
+        Template plain = Template.compile("Hello there");
+        assertTrue(plain.isStatic());
+        assertTrue(plain.isWellFormed());
+        assertEquals(Collections.emptyList(), plain.placeholders());
+
+        Template slots = Template.compile("Hi %player_name%, you are %player_uuid% (%player_name%)");
+        assertFalse(slots.isStatic());
+        assertTrue(slots.isWellFormed());
+        assertEquals(Arrays.asList("%player_name%", "%player_uuid%", "%player_name%"), slots.placeholders());
+    }
+
+    @Test
+    public void testMalformed() {
+        assertFalse(Template.compile("100%").isWellFormed());
+        assertFalse(Template.compile("%%").isWellFormed());
+        assertFalse(Template.compile("50% off, 20% more").isWellFormed());
+        assertFalse(Template.compile("%server_online_%arg%%").isWellFormed());
+        assertThrows(IllegalStateException.class, () -> Template.compile("100%").fill(s -> "x"));
+    }
+
+    @Test
+    public void testFill() {
+        Template template = Template.compile("%a% and %b%, %unknown%!");
+        assertEquals("1 and two, %unknown%!", template.fill(s -> {
+            if (s.equals("%a%")) return "1";
+            if (s.equals("%b%")) return "two";
+            return null;
+        }));
+
+        // nothing to replace should return the same instance
+        assertSame(template.source(), template.fill(s -> null));
+    }
+
+    @Test
+    public void testIsPlaceholder() {
+        assertTrue(Template.isPlaceholder("%player_name%"));
+        assertFalse(Template.isPlaceholder("%%"));
+        assertFalse(Template.isPlaceholder("%a b%"));
+        assertFalse(Template.isPlaceholder("%a%b%"));
+        assertFalse(Template.isPlaceholder("player_name"));
+    }
+
+    @Test
+    public void testMatchesStringResolution() {
+        Map<String, String> map = new HashMap<>();
+        map.put("%arg%", "Survival");
+        map.put("%raw_text%", "Steve");
+        MapResolver resolver = new MapResolver(map);
+
+        String[] inputs = {
+            "",
+            "no placeholders",
+            "%raw_text% on %arg%",
+            "%raw_text%%arg%",
+            "100% %arg%",
+            "%server_online_%arg%%",
+            "%unknown% %arg%"
+        };
+
+        for (String input : inputs) {
+            assertEquals(resolver.apply(input), resolver.apply(Template.compile(input)), input);
+        }
+    }
+
+    @Test
+    public void testChainedResolution() {
+        Map<String, String> map = Collections.singletonMap("%arg%", "%player_name%");
+        Resolver resolver = new MapResolver(map).then(Resolver.of(s -> s.replace("%player_name%", "Alex")));
+
+        // values provided by the first resolver are resolved by the second
+        assertEquals("Hi Alex", resolver.apply(Template.compile("Hi %arg%")));
+        assertEquals(resolver.apply("Hi %arg%"), resolver.apply(Template.compile("Hi %arg%")));
+    }
+
+    @Test
+    public void testBatchResolution() {
+        Map<String, Integer> evaluations = new HashMap<>();
+        Resolver counting = new Resolver() {
+            @Override
+            public String apply(String s) {
+                for (String placeholder : Template.compile(s).placeholders()) {
+                    evaluations.merge(placeholder, 1, Integer::sum);
+                }
+                return s.replace("%balance%", "100");
+            }
+
+            @Override
+            public boolean isPlaceholderOnly() {
+                return true;
+            }
+        };
+
+        List<Template> lore = Template.compile(Arrays.asList("Balance: %balance%", "%balance% coins", "%unknown%", "Static"));
+        assertEquals(Arrays.asList("Balance: 100", "100 coins", "%unknown%", "Static"), counting.applyAll(lore));
+        assertEquals(1, (int) evaluations.get("%balance%"));
+        assertEquals(1, (int) evaluations.get("%unknown%"));
+
+        // not placeholder based, so every string must be resolved as a whole
+        Resolver plain = Resolver.of(s -> s.replace("cat", "dog"));
+        assertSame(plain, plain.memoized());
+        assertEquals(Collections.singletonList("dog %balance%"), plain.applyAll(Template.compile(Collections.singletonList("cat %balance%"))));
+    }
+}
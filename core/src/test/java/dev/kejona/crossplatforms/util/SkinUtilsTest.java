@@ -0,0 +1,52 @@
+package dev.kejona.crossplatforms.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import static dev.kejona.crossplatforms.utils.SkinUtils.idFromEncoding;
+import static dev.kejona.crossplatforms.utils.SkinUtils.idFromUrl;
+import static dev.kejona.crossplatforms.utils.SkinUtils.urlFromEncoding;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class SkinUtilsTest {
+
+    private static final String ID = "1a4af718455d4aab528e7a61f86fa25e6a369d1768dcb13f7df319a713eb810b";
+    private static final String URL = "http://textures.minecraft.net/texture/" + ID;
+
+    @Test
+    public void testUrlFromEncoding() {
+        String json = "{\"timestamp\":1653686414127,\"profileId\":\"f84c6a790a4e45e0879bcd49ebd4c4e2\","
+            + "\"profileName\":\"Herobrine\",\"signatureRequired\":true,"
+            + "\"textures\":{\"CAPE\":{\"url\":\"http://textures.minecraft.net/texture/cape\"},"
+            + "\"SKIN\":{\"metadata\":{\"model\":\"slim\"},\"url\":\"" + URL + "\"}}}";
+
+        assertEquals(URL, urlFromEncoding(encode(json)));
+        assertEquals(ID, idFromEncoding(encode(json)));
+    }
+
+    @Test
+    public void testMissingMembers() {
+        assertThrows(IllegalArgumentException.class, () -> urlFromEncoding(encode("{}")));
+        assertThrows(IllegalArgumentException.class, () -> urlFromEncoding(encode("{\"textures\":{}}")));
+        assertThrows(IllegalArgumentException.class, () -> urlFromEncoding(encode("{\"textures\":{\"SKIN\":{}}}")));
+        assertThrows(IllegalArgumentException.class, () -> urlFromEncoding(encode("{\"textures\":\"SKIN\"}")));
+        assertThrows(IllegalArgumentException.class, () -> urlFromEncoding(encode("[]")));
+        assertThrows(IllegalArgumentException.class, () -> urlFromEncoding("not base64!"));
+    }
+
+    @Test
+    public void testIdFromUrl() {
+        assertEquals(ID, idFromUrl(URL));
+        assertEquals(ID, idFromUrl("https://textures.minecraft.net/texture/" + ID));
+        assertThrows(IllegalArgumentException.class, () -> idFromUrl("https://textures.minecraft.net/texture/"));
+        assertThrows(IllegalArgumentException.class, () -> idFromUrl("https://textures.minecraft.net/texture/abc/def"));
+        assertThrows(IllegalArgumentException.class, () -> idFromUrl("https://example.com/texture/" + ID));
+    }
+
+    private static String encode(String json) {
+        return Base64.getEncoder().encodeToString(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
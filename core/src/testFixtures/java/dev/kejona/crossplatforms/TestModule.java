@@ -9,6 +9,9 @@ import dev.kejona.crossplatforms.handler.BedrockHandler;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.handler.Placeholders;
 import dev.kejona.crossplatforms.handler.ServerHandler;
+import dev.kejona.crossplatforms.interfacing.bedrock.ResponseDispatcher;
+import dev.kejona.crossplatforms.permission.PermissionCache;
+import dev.kejona.crossplatforms.permission.Permissions;
 import net.kyori.adventure.audience.Audience;
 import org.jetbrains.annotations.Nullable;
 
@@ -79,5 +82,7 @@ public class TestModule extends AbstractModule {
         });
 
         bind(Placeholders.class).toInstance(new BasicPlaceholders());
+        bind(ResponseDispatcher.class).toInstance(ResponseDispatcher.direct());
+        bind(PermissionCache.class).toInstance(new PermissionCache(Permissions.empty()));
     }
 }
@@ -3,5 +3,6 @@ description = "proxy"
 
 dependencies {
     compileOnly("dev.simplix:protocolize-api:2.2.3")
+    compileOnly("dev.simplix:protocolize-data:2.2.3")
     compileOnly(projects.core)
 }
@@ -1,16 +1,22 @@
 package dev.kejona.crossplatforms.proxy;
 
 import com.google.inject.AbstractModule;
+import dev.kejona.crossplatforms.inventory.CachingInventoryFactory;
 import dev.kejona.crossplatforms.inventory.InventoryController;
 import dev.kejona.crossplatforms.inventory.InventoryFactory;
 import dev.kejona.crossplatforms.proxy.inventory.ProtocolizeInventoryController;
 import dev.kejona.crossplatforms.proxy.inventory.ProtocolizeInventoryFactory;
+import dev.kejona.crossplatforms.session.SessionRegistry;
 
 public class ProtocolizeModule extends AbstractModule {
 
     @Override
     protected void configure() {
-        bind(InventoryFactory.class).to(ProtocolizeInventoryFactory.class);
-        bind(InventoryController.class).to(ProtocolizeInventoryController.class);
+        bind(InventoryFactory.class).toInstance(new CachingInventoryFactory(new ProtocolizeInventoryFactory()));
+
+        // shared by every menu, so that the menu each player has open is forgotten when they leave
+        ProtocolizeInventoryController controller = new ProtocolizeInventoryController();
+        SessionRegistry.register(controller);
+        bind(InventoryController.class).toInstance(controller);
     }
 }
@@ -6,11 +6,21 @@ import dev.simplix.protocolize.api.inventory.Inventory;
 import dev.simplix.protocolize.api.item.ItemStack;
 import lombok.RequiredArgsConstructor;
 
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
 @RequiredArgsConstructor
 public class ProtocolizeInventory implements InventoryHandle {
 
     private final Inventory inventory;
 
+    /**
+     * Slots that have been set since the inventory was last sent to the player
+     */
+    private final Set<Integer> changed = new LinkedHashSet<>();
+
     @Override
     public Object handle() {
         return inventory;
@@ -24,5 +34,19 @@ public class ProtocolizeInventory implements InventoryHandle {
     @Override
     public void setSlot(int index, ItemHandle item) {
         inventory.item(index, item.castedHandle(ItemStack.class));
+        synchronized (changed) {
+            changed.add(index);
+        }
+    }
+
+    /**
+     * @return the slots that have been set since this was last called, which are then considered sent
+     */
+    List<Integer> takeChanged() {
+        synchronized (changed) {
+            List<Integer> slots = new ArrayList<>(changed);
+            changed.clear();
+            return slots;
+        }
     }
 }
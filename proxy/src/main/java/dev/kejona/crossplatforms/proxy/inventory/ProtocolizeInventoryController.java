@@ -4,15 +4,28 @@ import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.inventory.ClickHandler;
 import dev.kejona.crossplatforms.inventory.InventoryController;
 import dev.kejona.crossplatforms.inventory.InventoryHandle;
+import dev.kejona.crossplatforms.session.SessionListener;
 import dev.simplix.protocolize.api.Protocolize;
 import dev.simplix.protocolize.api.inventory.Inventory;
 import dev.simplix.protocolize.api.player.ProtocolizePlayer;
 import dev.simplix.protocolize.api.providers.ProtocolizePlayerProvider;
+import dev.simplix.protocolize.data.packets.SetSlot;
 
-public class ProtocolizeInventoryController implements InventoryController {
+import javax.annotation.Nonnull;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ProtocolizeInventoryController implements InventoryController, SessionListener {
 
     private final ProtocolizePlayerProvider players = Protocolize.playerProvider();
 
+    /**
+     * The menu that each player has open
+     */
+    private final Map<UUID, Inventory> open = new ConcurrentHashMap<>();
+
     @Override
     public void openInventory(FormPlayer recipient, InventoryHandle container, ClickHandler clickHandler) {
         ProtocolizePlayer player = players.player(recipient.getUuid());
@@ -37,6 +50,54 @@ public class ProtocolizeInventoryController implements InventoryController {
             }
         });
 
+        UUID uuid = recipient.getUuid();
+        inventory.onClose(close -> open.remove(uuid, inventory));
+
+        ((ProtocolizeInventory) container).takeChanged(); // every slot is sent when opened
         player.openInventory(inventory);
+        open.put(uuid, inventory);
+    }
+
+    @Override
+    public boolean isOpen(UUID player, InventoryHandle container) {
+        return open.get(player) == container.handle();
+    }
+
+    /**
+     * Sends a set slot packet for each slot that has changed, since sending the inventory again would reset the
+     * cursor of the player.
+     */
+    @Override
+    public void update(FormPlayer recipient, InventoryHandle container) {
+        List<Integer> slots = ((ProtocolizeInventory) container).takeChanged();
+        ProtocolizePlayer player = players.player(recipient.getUuid());
+        if (player == null || slots.isEmpty()) {
+            return;
+        }
+
+        Inventory inventory = container.castedHandle(Inventory.class);
+        Integer windowId = null;
+        for (Map.Entry<Integer, Inventory> entry : player.registeredInventories().entrySet()) {
+            if (entry.getValue() == inventory) {
+                windowId = entry.getKey();
+                break;
+            }
+        }
+        if (windowId == null) {
+            return; // no longer open
+        }
+
+        for (int slot : slots) {
+            SetSlot packet = new SetSlot()
+                .windowId(windowId.byteValue())
+                .slot((short) slot)
+                .itemStack(inventory.item(slot));
+            player.sendPacket(packet);
+        }
+    }
+
+    @Override
+    public void onQuit(@Nonnull UUID uuid) {
+        open.remove(uuid);
     }
 }
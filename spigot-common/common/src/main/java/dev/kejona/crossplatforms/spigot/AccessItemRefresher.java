@@ -0,0 +1,108 @@
+package dev.kejona.crossplatforms.spigot;
+
+import dev.kejona.crossplatforms.accessitem.AccessItem;
+import org.bukkit.Bukkit;
+import org.bukkit.Server;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitRunnable;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Updates the access items that players hold so that the placeholders they show stay current. Each pass goes through
+ * the online players in turn, spending at most the configured budget every tick. Should be run every tick. Cancels
+ * itself once there is nothing left to do and periodic refreshing is disabled.
+ */
+public class AccessItemRefresher extends BukkitRunnable {
+
+    private final SpigotAccessItems accessItems;
+    private final Server server = Bukkit.getServer();
+
+    /**
+     * The players that have not been updated in the current pass
+     */
+    private final Queue<UUID> queue = new ArrayDeque<>();
+
+    /**
+     * If the current or next pass should update every access item, not only those that show placeholders
+     */
+    private boolean full = false;
+
+    /**
+     * When the next pass should start, in milliseconds
+     */
+    private long nextPass = 0;
+
+    public AccessItemRefresher(SpigotAccessItems accessItems) {
+        this.accessItems = accessItems;
+    }
+
+    /**
+     * Updates every access item that players hold, starting on the next tick. For example, after the access items
+     * have been reloaded.
+     */
+    public void refreshAll() {
+        queue.clear();
+        full = true;
+        nextPass = 0;
+    }
+
+    @Override
+    public void run() {
+        if (queue.isEmpty() && !startPass()) {
+            if (!full && !accessItems.refreshesPeriodically()) {
+                accessItems.stopRefresher();
+            }
+            return;
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(accessItems.getRefreshBudget());
+        do {
+            Player player = server.getPlayer(queue.remove());
+            if (player != null) {
+                accessItems.refresh(player, full);
+            }
+        } while (!queue.isEmpty() && System.nanoTime() < deadline);
+
+        if (queue.isEmpty()) {
+            full = false;
+        }
+    }
+
+    /**
+     * Queues the online players if a pass is due
+     * @return true if there are players to update
+     */
+    private boolean startPass() {
+        if (!accessItems.isEnabled()) {
+            full = false; // there are no access items to update
+            return false;
+        }
+
+        long interval = accessItems.getRefreshInterval();
+        if (!full && interval <= 0) {
+            return false;
+        }
+
+        long now = System.currentTimeMillis();
+        if (now < nextPass) {
+            return false;
+        }
+        nextPass = now + interval;
+        if (!full && accessItems.getItems().values().stream().allMatch(AccessItem::isStatic)) {
+            return false; // nothing would change
+        }
+
+        for (Player player : server.getOnlinePlayers()) {
+            queue.add(player.getUniqueId());
+        }
+        if (queue.isEmpty()) {
+            full = false;
+            return false;
+        }
+        return true;
+    }
+}
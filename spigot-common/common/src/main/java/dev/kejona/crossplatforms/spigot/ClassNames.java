@@ -18,7 +18,7 @@ public final class ClassNames {
      * Includes the v at the front
      */
     public static final String NMS_VERSION;
-    private static final String CRAFTBUKKIT_PACKAGE;
+    public static final String CRAFTBUKKIT_PACKAGE;
 
     public static final Method PLAYER_GET_PROFILE;
     public static final Field META_SKULL_PROFILE;
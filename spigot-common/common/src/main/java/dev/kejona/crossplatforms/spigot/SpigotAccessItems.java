@@ -8,9 +8,11 @@ import dev.kejona.crossplatforms.handler.BedrockHandler;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.handler.Placeholders;
 import dev.kejona.crossplatforms.inventory.ItemHandle;
+import dev.kejona.crossplatforms.permission.PermissionCache;
 import dev.kejona.crossplatforms.permission.Permissions;
 import dev.kejona.crossplatforms.resolver.PlayerResolver;
 import dev.kejona.crossplatforms.resolver.Resolver;
+import dev.kejona.crossplatforms.resolver.Template;
 import dev.kejona.crossplatforms.spigot.adapter.NbtAccessor;
 import dev.kejona.crossplatforms.spigot.adapter.SpigotAdapter;
 import dev.kejona.crossplatforms.spigot.handler.SpigotPlayer;
@@ -32,33 +34,70 @@ import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.event.player.PlayerRespawnEvent;
 import org.bukkit.inventory.ItemStack;
+import org.bukkit.inventory.PlayerInventory;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
-import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 public final class SpigotAccessItems extends AccessItemRegistry implements Listener {
 
     private final Logger logger = Logger.get();
 
+    private final JavaPlugin plugin;
+    private final SpigotAdapter adapter;
     private final NbtAccessor nbt;
     private final BedrockHandler bedrockHandler;
     private final Placeholders placeholders;
+    private final PermissionCache permissionCache;
+
+    /**
+     * The task that refreshes held access items, or null if it isn't running
+     */
+    @Nullable
+    private AccessItemRefresher refresher;
+
+    /**
+     * The resolved templates of the access items in each player's inventory slots, as they were last refreshed
+     */
+    private final Map<UUID, Map<Integer, Shown>> shown = new HashMap<>();
+
+    /**
+     * The materials of every access item loaded since startup, or null if the material of an access item depends on
+     * placeholders. Materials are never removed so that items given before a reload are still recognized.
+     */
+    @Nullable
+    private Set<Material> materials = EnumSet.noneOf(Material.class);
+
+    /**
+     * If access items have been loaded whose materials haven't been added to {@link #materials}
+     */
+    private boolean collectMaterials = true;
 
     public SpigotAccessItems(JavaPlugin plugin,
                              SpigotAdapter adapter,
                              ConfigManager configManager,
                              Permissions permissions,
                              BedrockHandler bedrockHandler,
-                             Placeholders placeholders) {
+                             Placeholders placeholders,
+                             PermissionCache permissionCache) {
         super(configManager, permissions);
+        this.plugin = plugin;
+        this.adapter = adapter;
         this.nbt = adapter.nbtAccessor(plugin);
         this.bedrockHandler = bedrockHandler;
         this.placeholders = placeholders;
+        this.permissionCache = permissionCache;
+
+        startRefresher(false);
     }
 
     public void setItemId(@Nonnull ItemStack itemStack, @Nonnull String identifier) {
@@ -76,24 +115,163 @@ public final class SpigotAccessItems extends AccessItemRegistry implements Liste
         return nbt.getCustomString(itemStack, AccessItem.STATIC_IDENTIFIER);
     }
 
+    /**
+     * Like {@link #getItemId(ItemStack)}, but quickly rejects items whose material no access item has. Should be used
+     * for frequent events, where most items are not access items. Items given before a restart with a material that
+     * is no longer configured are not found, but those are removed from player inventories on join.
+     * @param itemStack The ItemStack to check
+     * @return The AccessItem ID if the ItemStack contained the name, null if not.
+     */
+    @Nullable
+    public String findItemId(@Nonnull ItemStack itemStack) {
+        if (collectMaterials) {
+            collectMaterials();
+        }
+        Set<Material> materials = this.materials;
+        if (materials != null && !materials.contains(itemStack.getType())) {
+            return null;
+        }
+        return getItemId(itemStack);
+    }
+
+    private void collectMaterials() {
+        collectMaterials = false;
+        if (materials == null) {
+            return; // already disabled
+        }
+        for (AccessItem item : getItems().values()) {
+            Material material = material(item);
+            if (material == null) {
+                materials = null;
+                return;
+            }
+            materials.add(material);
+        }
+    }
+
+    /**
+     * @return the material that the item is created with, or null if it depends on placeholders
+     */
+    @Nullable
+    private Material material(AccessItem item) {
+        if (item.getSkull() != null) {
+            return adapter.playerHeadMaterial();
+        }
+        Template template = Template.compile(item.getMaterial());
+        if (template == null) {
+            return Material.STONE;
+        } else if (!template.isStatic()) {
+            return null;
+        }
+        Material material = Material.matchMaterial(item.getMaterial());
+        return material == null ? Material.STONE : material; // same as the inventory factory
+    }
+
+    @Override
+    public boolean reload() {
+        boolean success = super.reload();
+        collectMaterials = true;
+        startRefresher(isEnabled()); // show the changes of the reloaded access items
+        return success;
+    }
+
+    /**
+     * Starts the refresher if it isn't running and there is something for it to do
+     * @param full True if every held access item should be updated once, for example after a reload
+     */
+    private void startRefresher(boolean full) {
+        if (refresher == null) {
+            if (!full && !refreshesPeriodically()) {
+                return;
+            }
+            refresher = new AccessItemRefresher(this);
+            refresher.runTaskTimer(plugin, 1L, 1L);
+        }
+        if (full) {
+            refresher.refreshAll();
+        }
+    }
+
+    /**
+     * Cancels the refresher. It is started again by a reload that requires it.
+     */
+    void stopRefresher() {
+        if (refresher != null) {
+            refresher.cancel();
+            refresher = null;
+        }
+    }
+
+    /**
+     * @return true if the placeholders of held access items should be updated every refresh interval
+     */
+    boolean refreshesPeriodically() {
+        return isEnabled() && getRefreshInterval() > 0;
+    }
+
     public ItemStack createItemStack(AccessItem accessItem, Player player) {
-        FormPlayer formPlayer = new SpigotPlayer(player);
-        Resolver resolver = new PlayerResolver(formPlayer, placeholders);
+        return createItemStack(accessItem, new PlayerResolver(new SpigotPlayer(player), placeholders));
+    }
 
+    private ItemStack createItemStack(AccessItem accessItem, Resolver resolver) {
         ItemHandle handle = accessItem.convertAndResolve(resolver);
-        ItemStack item = handle.castedHandle(ItemStack.class);
+        // the item may be shared by the inventory factory, so copy it before tagging it
+        ItemStack item = handle.castedHandle(ItemStack.class).clone();
 
         setItemId(item, accessItem.getIdentifier());
         return item;
     }
 
+    /**
+     * Updates the access items in a player's inventory whose name or lore has changed
+     * @param player The player to update
+     * @param all True to update every access item, false to only update those that show placeholders
+     */
+    public void refresh(Player player, boolean all) {
+        Map<Integer, Shown> shown = this.shown.computeIfAbsent(player.getUniqueId(), uuid -> new HashMap<>());
+        Resolver resolver = null; // only created if the player holds an access item
+
+        PlayerInventory inventory = player.getInventory();
+        ItemStack[] contents = inventory.getContents();
+        for (int slot = 0; slot < contents.length; slot++) {
+            ItemStack item = contents[slot];
+            if (item == null) {
+                continue;
+            }
+            String id = findItemId(item);
+            if (id == null) {
+                continue;
+            }
+            AccessItem access = getItem(id);
+            if (access == null || (!all && access.isStatic())) {
+                continue; // items that no longer exist are removed by the events
+            }
+
+            if (resolver == null) {
+                resolver = new PlayerResolver(new SpigotPlayer(player), placeholders).memoized();
+            }
+            List<String> resolved = resolver.applyTemplates(access.templates());
+            Shown previous = shown.get(slot);
+            if (!all && previous != null && previous.id.equals(id) && previous.values.equals(resolved)) {
+                continue; // nothing that the item shows has changed
+            }
+            shown.put(slot, new Shown(id, resolved));
+
+            ItemStack updated = createItemStack(access, resolver);
+            if (!updated.isSimilar(item)) {
+                updated.setAmount(item.getAmount());
+                inventory.setItem(slot, updated);
+            }
+        }
+    }
+
     @EventHandler
     public void onInteract(PlayerInteractEvent event) { // opening menus through access items
         Action action = event.getAction();
         if (action != Action.PHYSICAL) {
             ItemStack item = event.getItem();
             if (item != null) {
-                String id = getItemId(item);
+                String id = findItemId(item);
                 if (id != null) {
                     // Don't allow using the item to break blocks
                     // If it was a right click, using the access item should be the only behaviour
@@ -105,7 +283,7 @@ public final class SpigotAccessItems extends AccessItemRegistry implements Liste
                         if (access == null) {
                             // item no longer exists
                             remove(player, item, RemoveReason.ITEM_REMOVED);
-                        } else if (player.hasPermission(access.permission(AccessItem.Limit.POSSESS))) {
+                        } else if (hasPermission(player, access, AccessItem.Limit.POSSESS)) {
                             if (action == Action.RIGHT_CLICK_AIR || action == Action.RIGHT_CLICK_BLOCK) {
                                 access.trigger(new SpigotPlayer(player));
                             }
@@ -127,7 +305,7 @@ public final class SpigotAccessItems extends AccessItemRegistry implements Liste
         // todo: don't allow duplication for creative players
         ItemStack item = event.getCurrentItem();
         if (item != null) {
-            String id = getItemId(item);
+            String id = findItemId(item);
             if (id != null) {
                 // the item is or was an access item
 
@@ -136,10 +314,10 @@ public final class SpigotAccessItems extends AccessItemRegistry implements Liste
                     AccessItem access = getItem(id);
                     if (access == null) {
                         remove(human, item, RemoveReason.ITEM_REMOVED);
-                    } else if (!human.hasPermission(access.permission(AccessItem.Limit.POSSESS))) {
+                    } else if (!hasPermission(human, access, AccessItem.Limit.POSSESS)) {
                         // doesn't have permission to have it
                         remove(human, item, RemoveReason.IMPERMISSIBLE);
-                    } else if (!human.hasPermission(access.permission(AccessItem.Limit.MOVE))) {
+                    } else if (!hasPermission(human, access, AccessItem.Limit.MOVE)) {
                         // has permission to have it, but not move it
                         event.setCancelled(true);
                     }
@@ -155,7 +333,7 @@ public final class SpigotAccessItems extends AccessItemRegistry implements Liste
     @EventHandler
     public void onPlayerDropItem(PlayerDropItemEvent event) { // restricting dropping
         ItemStack item = event.getItemDrop().getItemStack();
-        String id = getItemId(item);
+        String id = findItemId(item);
         if (id != null) {
             AccessItem access = getItem(id);
             Player player = event.getPlayer();
@@ -163,8 +341,8 @@ public final class SpigotAccessItems extends AccessItemRegistry implements Liste
                 // access item no longer exists
                 player.sendMessage(RemoveReason.ITEM_REMOVED.message);
                 event.getItemDrop().remove();
-            } else if (player.hasPermission(access.permission(AccessItem.Limit.DROP))) {
-                if (!player.hasPermission(access.permission(AccessItem.Limit.PRESERVE))) {
+            } else if (hasPermission(player, access, AccessItem.Limit.DROP)) {
+                if (!hasPermission(player, access, AccessItem.Limit.PRESERVE)) {
                     // has permission to "drop" it but the item is destroyed
                     event.getItemDrop().remove();
                 }
@@ -180,10 +358,10 @@ public final class SpigotAccessItems extends AccessItemRegistry implements Liste
         Player player = event.getEntity();
         Iterator<ItemStack> iterator = event.getDrops().iterator();
         while (iterator.hasNext()) {
-            String id = getItemId(iterator.next());
+            String id = findItemId(iterator.next());
             if (id != null) {
                 AccessItem access = getItem(id);
-                if (access == null || !player.hasPermission(access.permission(AccessItem.Limit.PRESERVE))) {
+                if (access == null || !hasPermission(player, access, AccessItem.Limit.PRESERVE)) {
                     // the access item no longer exists and should be removed
                     // OR the player no longer has permission for it, so the item should be removed.
                     iterator.remove();
@@ -194,22 +372,23 @@ public final class SpigotAccessItems extends AccessItemRegistry implements Liste
 
     @EventHandler
     public void onPlayerJoin(PlayerJoinEvent event) { // give the access item when the player joins
-        regive(event.getPlayer(), AccessItem::isOnJoin);
+        regive(event.getPlayer(), Trigger.JOIN);
     }
 
     @EventHandler
     public void onPlayerRespawn(PlayerRespawnEvent event) { // give the access item when the player respawns
-        regive(event.getPlayer(), AccessItem::isOnRespawn);
+        regive(event.getPlayer(), Trigger.RESPAWN);
     }
 
     @EventHandler
     public void onPlayerChangeWorld(PlayerChangedWorldEvent event) {
-        regive(event.getPlayer(), AccessItem::isOnWorldChange);
+        regive(event.getPlayer(), Trigger.WORLD_CHANGE);
     }
 
     @EventHandler
     public void onPlayerLeave(PlayerQuitEvent event) {
         Player player = event.getPlayer();
+        shown.remove(player.getUniqueId());
         for (ItemStack item : player.getInventory().getContents()) {
             if (item != null) {
                 String id = getItemId(item);
@@ -228,38 +407,44 @@ public final class SpigotAccessItems extends AccessItemRegistry implements Liste
     }
 
     public void handlePlayerPickupItem(Player player, Item item, Cancellable event) {
-        String id = getItemId(item.getItemStack());
+        String id = findItemId(item.getItemStack());
         if (id != null) {
             AccessItem access = getItem(id);
             if (access == null) {
                 // the item no longer exists, don't allow picking it up
                 event.setCancelled(true);
-            } else if (!player.hasPermission(access.permission(AccessItem.Limit.POSSESS))) {
+            } else if (!hasPermission(player, access, AccessItem.Limit.POSSESS)) {
                 // they don't have permission to have it
                 event.setCancelled(true);
             }
         }
     }
 
+    private boolean hasPermission(HumanEntity player, AccessItem access, AccessItem.Limit limit) {
+        return permissionCache.hasPermission(player.getUniqueId(), access.permission(limit), player::hasPermission);
+    }
+
     private void remove(HumanEntity player, ItemStack item, RemoveReason reason) {
         player.getInventory().remove(item);
         player.sendMessage(reason.message);
     }
 
-    private void regive(Player player, Predicate<AccessItem> give) {
-        List<String> contained = new ArrayList<>(); // Access items the player already has and that will not be removed
+    private void regive(Player player, Trigger trigger) {
+        Set<String> contained = new HashSet<>(); // Access items the player already has and that will not be removed
 
         // Remove any access items that are now longer allowed
         for (ItemStack item : player.getInventory()) {
             if (item != null) {
-                String id = getItemId(item);
-                if (id != null) {
+                // items given before a restart may have a material that is no longer configured, so every item is
+                // read when joining
+                String id = trigger == Trigger.JOIN ? getItemId(item) : findItemId(item);
+                if (id != null && !contained.contains(id)) {
                     AccessItem access = getItem(id);
                     if (access == null) {
                         // access item no longer exists
                         player.getInventory().remove(item);
                     } else {
-                        if (player.hasPermission(access.permission(AccessItem.Limit.POSSESS))) {
+                        if (hasPermission(player, access, AccessItem.Limit.POSSESS)) {
                             contained.add(access.getIdentifier());
                             logger.debug(String.format("%s is keeping access item %s", player.getName(), access.getIdentifier()));
                         } else {
@@ -273,8 +458,8 @@ public final class SpigotAccessItems extends AccessItemRegistry implements Liste
 
         // Give any access items that should be given
         boolean changedHand = false; // If we have changed the item the player is holding
-        for (AccessItem access : getItems().values()) {
-            if (give.test(access) && access.getPlatform().matches(player.getUniqueId(), bedrockHandler) && player.hasPermission(access.permission(AccessItem.Limit.EVENT))) {
+        for (AccessItem access : getItems(trigger)) {
+            if (access.getPlatform().matches(player.getUniqueId(), bedrockHandler) && hasPermission(player, access, AccessItem.Limit.EVENT)) {
                 if (!contained.contains(access.getIdentifier())) {
                     if (setHeldSlot() && !changedHand) {
                         giveAccessItem(new SpigotPlayer(player), access, true);
@@ -305,7 +490,7 @@ public final class SpigotAccessItems extends AccessItemRegistry implements Liste
      * @return True if the access item was successfully given. False if the inventory was too full.
      */
     public boolean giveAccessItem(Player player, AccessItem accessItem, boolean setHeldSlot) {
-        ItemStack accessItemStack = createItemStack(accessItem, player); // todo update placeholders after the fact. but when?
+        ItemStack accessItemStack = createItemStack(accessItem, player); // placeholders are updated by the refresher
 
         int desiredSlot = accessItem.getSlot();
         ItemStack blockingItem = player.getInventory().getItem(desiredSlot);
@@ -343,6 +528,12 @@ public final class SpigotAccessItems extends AccessItemRegistry implements Liste
         }
     }
 
+    @AllArgsConstructor
+    private static class Shown {
+        final String id;
+        final List<String> values;
+    }
+
     @AllArgsConstructor
     private enum RemoveReason {
         ITEMS_DISABLED("Access Items are currently disabled."),
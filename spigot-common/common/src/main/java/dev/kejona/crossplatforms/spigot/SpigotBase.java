@@ -19,8 +19,10 @@ import dev.kejona.crossplatforms.command.CommandOrigin;
 import dev.kejona.crossplatforms.config.ConfigId;
 import dev.kejona.crossplatforms.config.ConfigManager;
 import dev.kejona.crossplatforms.handler.BasicPlaceholders;
+import dev.kejona.crossplatforms.handler.CachingPlaceholders;
 import dev.kejona.crossplatforms.handler.Placeholders;
 import dev.kejona.crossplatforms.handler.ServerHandler;
+import dev.kejona.crossplatforms.inventory.CachingInventoryFactory;
 import dev.kejona.crossplatforms.inventory.InventoryController;
 import dev.kejona.crossplatforms.inventory.InventoryFactory;
 import dev.kejona.crossplatforms.permission.LuckPermsHook;
@@ -41,6 +43,7 @@ import org.bstats.charts.CustomChart;
 import org.bukkit.Bukkit;
 import org.bukkit.Server;
 import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import java.io.File;
@@ -93,7 +96,7 @@ public abstract class SpigotBase extends JavaPlugin implements CrossplatFormsBoo
         convertGeyserHubConfig();
 
         ServerHandler serverHandler = new SpigotHandler(this, audiences);
-        Permissions permissions = server.getPluginManager().isPluginEnabled("LuckPerms") ? new LuckPermsHook() : new SpigotPermissions(this);
+        Permissions permissions = server.getPluginManager().isPluginEnabled("LuckPerms") ? new LuckPermsHook(Player.class, Player::getUniqueId) : new SpigotPermissions(this);
 
         // Yes, this is not Paper-exclusive plugin. Cloud handles this gracefully.
         PaperCommandManager<CommandOrigin> commandManager;
@@ -125,8 +128,11 @@ public abstract class SpigotBase extends JavaPlugin implements CrossplatFormsBoo
         }
 
         Placeholders placeholders;
+        CachingPlaceholders placeholderCache = null;
         if (server.getPluginManager().isPluginEnabled("PlaceholderAPI")) {
-            placeholders = new PlaceholderAPIHandler(this);
+            // PlaceholderAPI expansions may be expensive, so allow their values to be cached if configured
+            placeholderCache = new CachingPlaceholders(new PlaceholderAPIHandler(this));
+            placeholders = placeholderCache;
         } else {
             logger.warn("This plugin works best with PlaceholderAPI! Since you don't have it installed, only %player_name% and %player_uuid% will work (typically).");
             placeholders = new BasicPlaceholders();
@@ -143,6 +149,10 @@ public abstract class SpigotBase extends JavaPlugin implements CrossplatFormsBoo
             this
         );
 
+        if (placeholderCache != null) {
+            placeholderCache.load(crossplatForms.getConfigManager());
+        }
+
         // Wait for debug to be set or not
         logger.debug("Using " + spigotAdapter.getClass().getSimpleName() + " for server version " + ClassNames.NMS_VERSION);
 
@@ -152,7 +162,8 @@ public abstract class SpigotBase extends JavaPlugin implements CrossplatFormsBoo
             crossplatForms.getConfigManager(),
             crossplatForms.getPermissions(),
             crossplatForms.getBedrockHandler(),
-            crossplatForms.getPlaceholders()
+            crossplatForms.getPlaceholders(),
+            crossplatForms.getPermissionCache()
         );
         server.getPluginManager().registerEvents(accessItems, this);
         spigotAdapter.registerAuxiliaryEvents(this, accessItems); // Events for versions above 1.8
@@ -170,7 +181,7 @@ public abstract class SpigotBase extends JavaPlugin implements CrossplatFormsBoo
 
         SpigotInventoryController controller = new SpigotInventoryController();
         getServer().getPluginManager().registerEvents(controller, this);
-        SpigotInventoryFactory factory = new SpigotInventoryFactory(spigotAdapter);
+        InventoryFactory factory = new CachingInventoryFactory(new SpigotInventoryFactory(spigotAdapter));
 
         modules.add(new AbstractModule() {
             @Override
@@ -195,6 +206,10 @@ public abstract class SpigotBase extends JavaPlugin implements CrossplatFormsBoo
 
     @Override
     public void onDisable() {
+        CrossplatForms crossplatForms = CrossplatForms.getInstance();
+        if (crossplatForms != null) {
+            crossplatForms.shutdown();
+        }
         if (audiences != null) {
             audiences.close();
         }
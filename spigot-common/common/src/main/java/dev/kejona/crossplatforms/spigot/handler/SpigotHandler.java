@@ -8,7 +8,9 @@ import dev.kejona.crossplatforms.command.custom.InterceptCommand;
 import dev.kejona.crossplatforms.command.custom.InterceptCommandCache;
 import dev.kejona.crossplatforms.handler.BedrockHandler;
 import dev.kejona.crossplatforms.handler.FormPlayer;
+import dev.kejona.crossplatforms.handler.PlayerExecutor;
 import dev.kejona.crossplatforms.handler.ServerHandler;
+import dev.kejona.crossplatforms.session.SessionRegistry;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.platform.bukkit.BukkitAudiences;
 import org.bukkit.Bukkit;
@@ -20,6 +22,8 @@ import org.bukkit.event.EventHandler;
 import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerCommandPreprocessEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.plugin.java.JavaPlugin;
 
 import javax.annotation.Nonnull;
@@ -34,11 +38,17 @@ public class SpigotHandler extends InterceptCommandCache implements ServerHandle
     private final BukkitAudiences audiences;
     private final ConsoleCommandSender console;
 
+    /**
+     * Keeps forms sent to the same player in order
+     */
+    private final PlayerExecutor sendExecutor;
+
     public SpigotHandler(JavaPlugin plugin, BukkitAudiences audiences) {
         this.server = plugin.getServer();
         this.plugin = plugin;
         this.audiences = audiences;
         this.console = server.getConsoleSender();
+        this.sendExecutor = new PlayerExecutor(runnable -> server.getScheduler().runTaskAsynchronously(plugin, runnable));
         plugin.getServer().getPluginManager().registerEvents(this, plugin);
     }
 
@@ -144,8 +154,7 @@ public class SpigotHandler extends InterceptCommandCache implements ServerHandle
 
     @EventHandler(priority = EventPriority.LOWEST) // Same as DeluxeMenus
     public void onPreProcessCommand(PlayerCommandPreprocessEvent event) {
-        String input = event.getMessage().substring(1); // remove command slash
-        InterceptCommand command = findCommand(input);
+        InterceptCommand command = findCommand(event.getMessage(), 1); // skip the command slash
         if (command != null) {
             Player player = event.getPlayer();
             BedrockHandler bedrockHandler = CrossplatForms.getInstance().getBedrockHandler();
@@ -164,11 +173,36 @@ public class SpigotHandler extends InterceptCommandCache implements ServerHandle
         }
     }
 
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onPlayerJoin(PlayerJoinEvent event) {
+        SessionRegistry.join(new SpigotPlayer(event.getPlayer()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        SessionRegistry.quit(event.getPlayer().getUniqueId());
+    }
+
     @Override
     public void executeSafely(Runnable runnable) {
         server.getScheduler().runTask(plugin, runnable);
     }
 
+    @Override
+    public boolean defersSafeExecution() {
+        return true;
+    }
+
+    @Override
+    public void executeAsync(Runnable runnable) {
+        server.getScheduler().runTaskAsynchronously(plugin, runnable);
+    }
+
+    @Override
+    public void executeAsync(UUID player, Runnable runnable) {
+        sendExecutor.execute(player, runnable);
+    }
+
     public static void ensurePrimaryThread() {
         if (!Bukkit.isPrimaryThread()) {
             throw new IllegalStateException("Method not called from primary thread, instead: " + Thread.currentThread());
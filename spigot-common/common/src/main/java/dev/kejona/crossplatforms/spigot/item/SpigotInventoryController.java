@@ -4,58 +4,104 @@ import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.inventory.ClickHandler;
 import dev.kejona.crossplatforms.inventory.InventoryController;
 import dev.kejona.crossplatforms.inventory.InventoryHandle;
+import lombok.RequiredArgsConstructor;
 import org.bukkit.Bukkit;
+import org.bukkit.entity.HumanEntity;
 import org.bukkit.entity.Player;
 import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 import org.bukkit.event.inventory.InventoryClickEvent;
 import org.bukkit.event.inventory.InventoryCloseEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
 import org.bukkit.inventory.Inventory;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.UUID;
 
 public class SpigotInventoryController implements InventoryController, Listener {
 
-    // Menus that are open
-    private final Map<Inventory, ClickHandler> handlerCache = new HashMap<>();
+    /**
+     * The menu that each player has open. Only accessed on the main thread.
+     */
+    private final Map<UUID, MenuSession> sessions = new HashMap<>();
 
     @Override
     public void openInventory(FormPlayer recipient, InventoryHandle container, ClickHandler clickHandler) {
         Player player = Objects.requireNonNull(Bukkit.getPlayer(recipient.getUuid()), "player lookup for " + recipient.getUuid());
         Inventory inventory = container.castedHandle(Inventory.class);
 
+        // this closes any menu that is already open, which ends its session
         player.openInventory(inventory);
-        handlerCache.put(inventory, clickHandler);
+        sessions.put(player.getUniqueId(), new MenuSession(inventory, clickHandler));
+    }
+
+    @Override
+    public boolean isOpen(UUID player, InventoryHandle container) {
+        MenuSession session = sessions.get(player);
+        return session != null && session.inventory == container.handle();
+    }
+
+    /**
+     * @return the amount of players that have a menu open
+     */
+    public int openMenus() {
+        return sessions.size();
     }
 
     @EventHandler
     public void onInventoryClick(InventoryClickEvent event) {
         // This is used for processing inventory clicks WITHIN the java menu GUI
 
-        if (event.getWhoClicked() instanceof Player) {
-            Inventory inventory = event.getClickedInventory(); // inventory that was clicked in
-            if (inventory == null) {
-                // clicked outside of window
-                return;
-            }
-
-            if (handlerCache.containsKey(inventory)) {
-                // handle clicking in the menu inventory
-                event.setCancelled(true);
-                handlerCache.get(inventory).handle(event.getSlot(), event.isRightClick());
-            } else if (event.isShiftClick()) {
-                // stop players from shift-clicking items into the menu's inventory.
-                if (handlerCache.containsKey(event.getInventory())) { // the upper inventory
-                    event.setCancelled(true);
-                }
-            }
+        HumanEntity clicker = event.getWhoClicked();
+        MenuSession session = sessions.get(clicker.getUniqueId());
+        if (session == null) {
+            // not in a menu
+            return;
+        }
+
+        Inventory top = event.getView().getTopInventory();
+        if (top != session.inventory) {
+            // the menu was closed without a close event
+            sessions.remove(clicker.getUniqueId());
+            return;
+        }
+
+        Inventory inventory = event.getClickedInventory(); // inventory that was clicked in
+        if (inventory == null) {
+            // clicked outside of window
+            return;
+        }
+
+        if (inventory == top) {
+            // handle clicking in the menu inventory
+            event.setCancelled(true);
+            session.clickHandler.handle(event.getSlot(), event.isRightClick());
+        } else if (event.isShiftClick()) {
+            // stop players from shift-clicking items into the menu's inventory.
+            event.setCancelled(true);
         }
     }
 
     @EventHandler
     public void onInventoryClose(InventoryCloseEvent event) {
-        handlerCache.remove(event.getInventory());
+        UUID uuid = event.getPlayer().getUniqueId();
+        MenuSession session = sessions.get(uuid);
+        if (session != null && session.inventory == event.getInventory()) {
+            sessions.remove(uuid);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onPlayerQuit(PlayerQuitEvent event) {
+        sessions.remove(event.getPlayer().getUniqueId());
+    }
+
+    @RequiredArgsConstructor
+    private static class MenuSession {
+        private final Inventory inventory;
+        private final ClickHandler clickHandler;
     }
 }
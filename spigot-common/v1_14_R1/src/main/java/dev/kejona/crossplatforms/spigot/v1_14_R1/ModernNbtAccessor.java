@@ -1,7 +1,7 @@
 package dev.kejona.crossplatforms.spigot.v1_14_R1;
 
 import dev.kejona.crossplatforms.spigot.adapter.NbtAccessor;
-import lombok.AllArgsConstructor;
+import lombok.RequiredArgsConstructor;
 import org.bukkit.NamespacedKey;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.inventory.meta.ItemMeta;
@@ -10,17 +10,28 @@ import org.bukkit.plugin.Plugin;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static dev.kejona.crossplatforms.spigot.utils.InventoryUtils.requireItemMeta;
 
 /**
  * Uses the Spigot Persistent Data Container api
  */
-@AllArgsConstructor
+@RequiredArgsConstructor
 public class ModernNbtAccessor implements NbtAccessor {
 
     private final Plugin plugin;
 
+    /**
+     * Keys that have been used, which are only a handful
+     */
+    private final Map<String, NamespacedKey> keys = new ConcurrentHashMap<>();
+
+    private NamespacedKey namespacedKey(String key) {
+        return keys.computeIfAbsent(key, k -> new NamespacedKey(plugin, k));
+    }
+
     @Nullable
     @Override
     public String getCustomString(@Nonnull ItemStack stack, @Nonnull String key) {
@@ -29,7 +40,7 @@ public class ModernNbtAccessor implements NbtAccessor {
         }
 
         return stack.getItemMeta().getPersistentDataContainer().get(
-            new NamespacedKey(plugin, key),
+            namespacedKey(key),
             PersistentDataType.STRING
         );
     }
@@ -38,7 +49,7 @@ public class ModernNbtAccessor implements NbtAccessor {
     public void setCustomString(@Nonnull ItemStack stack, @Nonnull String key, @Nonnull String value) {
         ItemMeta meta = requireItemMeta(stack);
         meta.getPersistentDataContainer().set(
-            new NamespacedKey(plugin, key),
+            namespacedKey(key),
             PersistentDataType.STRING,
             value
         );
@@ -0,0 +1,75 @@
+package dev.kejona.crossplatforms.spigot.v1_8_R3;
+
+import dev.kejona.crossplatforms.spigot.ClassNames;
+import dev.kejona.crossplatforms.utils.ReflectionUtils;
+import org.bukkit.inventory.ItemStack;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Reads strings from the tag of a CraftItemStack directly, without creating the wrappers of the NBT api for every
+ * read. The reflective lookups are done once, for whichever server version is running.
+ */
+final class CompoundReader {
+
+    private static final int TYPE_STRING = 8;
+    private static final int TYPE_COMPOUND = 10;
+
+    private final Class<?> craftItemStack;
+    private final Field handle;
+    private final Method getTag;
+    private final Method hasKeyOfType;
+    private final Method getCompound;
+    private final Method getString;
+
+    CompoundReader() {
+        craftItemStack = ReflectionUtils.requireClass(ClassNames.CRAFTBUKKIT_PACKAGE + ".inventory.CraftItemStack");
+        handle = ReflectionUtils.requireField(craftItemStack, "handle");
+        getTag = ReflectionUtils.requireMethod(handle.getType(), "getTag");
+
+        Class<?> compound = getTag.getReturnType();
+        hasKeyOfType = ReflectionUtils.requireMethod(compound, "hasKeyOfType", String.class, int.class);
+        getCompound = ReflectionUtils.requireMethod(compound, "getCompound", String.class);
+        getString = ReflectionUtils.requireMethod(compound, "getString", String.class);
+    }
+
+    /**
+     * @return true if the stack is backed by a server item, which can be read by this reader
+     */
+    boolean canRead(@Nonnull ItemStack stack) {
+        return craftItemStack.isInstance(stack);
+    }
+
+    /**
+     * Reads a string from a compound of the tag of an item
+     * @param stack A stack which {@link #canRead(ItemStack)}
+     * @param compound The name of the compound in the item's tag
+     * @param key The key of the string in the compound
+     * @return The string, or null if the item doesn't have a string at that location
+     */
+    @Nullable
+    String readString(@Nonnull ItemStack stack, @Nonnull String compound, @Nonnull String key) {
+        Object item = ReflectionUtils.getValue(stack, handle);
+        if (item == null) {
+            return null; // air
+        }
+
+        Object tag = ReflectionUtils.invoke(item, getTag);
+        if (tag == null || !hasKey(tag, compound, TYPE_COMPOUND)) {
+            return null;
+        }
+
+        Object values = ReflectionUtils.invoke(tag, getCompound, compound);
+        if (values == null || !hasKey(values, key, TYPE_STRING)) {
+            return null;
+        }
+        return ReflectionUtils.castedInvoke(values, getString, key);
+    }
+
+    private boolean hasKey(Object compound, String key, int type) {
+        return Boolean.TRUE.equals(ReflectionUtils.invoke(compound, hasKeyOfType, key, type));
+    }
+}
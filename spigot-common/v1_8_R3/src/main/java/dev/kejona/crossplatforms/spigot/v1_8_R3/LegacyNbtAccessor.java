@@ -2,6 +2,7 @@ package dev.kejona.crossplatforms.spigot.v1_8_R3;
 
 import de.tr7zw.changeme.nbtapi.NBTCompound;
 import de.tr7zw.changeme.nbtapi.NBTItem;
+import dev.kejona.crossplatforms.Logger;
 import dev.kejona.crossplatforms.spigot.adapter.NbtAccessor;
 import org.bukkit.inventory.ItemStack;
 import org.bukkit.plugin.Plugin;
@@ -23,11 +24,26 @@ public class LegacyNbtAccessor implements NbtAccessor {
 
     private final String namespacePrefix;
 
+    /**
+     * Reads most items without the NBT api. Null if it is not supported on this server version.
+     */
+    @Nullable
+    private final CompoundReader reader;
+
     /**
      * @param plugin The plugin whose namespace should be used for writing/reading custom data
      */
     public LegacyNbtAccessor(Plugin plugin) {
         namespacePrefix = plugin.getName().toLowerCase(Locale.ROOT) + ":";
+
+        CompoundReader reader;
+        try {
+            reader = new CompoundReader();
+        } catch (RuntimeException e) {
+            Logger.get().debug("Falling back to the NBT api for reading items: " + e.getMessage());
+            reader = null;
+        }
+        this.reader = reader;
     }
 
     private String applyNamespace(String key) {
@@ -36,10 +52,13 @@ public class LegacyNbtAccessor implements NbtAccessor {
 
     @Override
     public @Nullable String getCustomString(@Nonnull ItemStack stack, @Nonnull String key) {
-        if (stack.getItemMeta() == null) {
-            // Check against air
+        if (!stack.hasItemMeta()) {
+            // Check against air and items without any tag, without copying the meta
             return null;
         }
+        if (reader != null && reader.canRead(stack)) {
+            return reader.readString(stack, BUKKIT_COMPOUND, applyNamespace(key));
+        }
         NBTCompound bukkitValues = new NBTItem(stack).getCompound(BUKKIT_COMPOUND);
         if (bukkitValues == null) {
             return null;
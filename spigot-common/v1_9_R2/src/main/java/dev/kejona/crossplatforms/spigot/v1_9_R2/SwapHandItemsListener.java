@@ -18,7 +18,7 @@ public class SwapHandItemsListener implements Listener {
     @EventHandler
     public void PlayerSwapHandItemsEvent(PlayerSwapHandItemsEvent event) { // Don't allow putting it in the offhand
         ItemStack item = event.getOffHandItem();
-        if (item != null && accessItems.getItemId(item) != null) {
+        if (item != null && accessItems.findItemId(item) != null) {
             event.setCancelled(true);
         }
     }
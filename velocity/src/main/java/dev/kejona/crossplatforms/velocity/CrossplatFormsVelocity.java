@@ -10,6 +10,7 @@ import com.velocitypowered.api.event.proxy.ProxyInitializeEvent;
 import com.velocitypowered.api.event.proxy.ProxyShutdownEvent;
 import com.velocitypowered.api.plugin.PluginContainer;
 import com.velocitypowered.api.plugin.annotation.DataDirectory;
+import com.velocitypowered.api.proxy.Player;
 import com.velocitypowered.api.proxy.ProxyServer;
 import dev.kejona.crossplatforms.Constants;
 import dev.kejona.crossplatforms.CrossplatForms;
@@ -77,7 +78,7 @@ public class CrossplatFormsVelocity implements CrossplatFormsBootstrap {
         metrics = metricsFactory.make(this, BSTATS_ID);
 
         ServerHandler serverHandler = new VelocityHandler(server);
-        Permissions permissions = pluginPresent("luckperms") ? new LuckPermsHook() : Permissions.empty();
+        Permissions permissions = pluginPresent("luckperms") ? new LuckPermsHook(Player.class, Player::getUniqueId) : Permissions.empty();
 
         VelocityCommandManager<CommandOrigin> commandManager;
         try {
@@ -142,6 +143,9 @@ public class CrossplatFormsVelocity implements CrossplatFormsBootstrap {
 
     @Subscribe
     public void onDisable(ProxyShutdownEvent event) {
+        if (crossplatForms != null) {
+            crossplatForms.shutdown();
+        }
         server.getEventManager().unregisterListeners(this);
     }
 
@@ -3,7 +3,10 @@ package dev.kejona.crossplatforms.velocity.handler;
 import com.velocitypowered.api.command.CommandManager;
 import com.velocitypowered.api.command.CommandSource;
 import com.velocitypowered.api.event.Subscribe;
+import com.velocitypowered.api.event.PostOrder;
 import com.velocitypowered.api.event.command.CommandExecuteEvent;
+import com.velocitypowered.api.event.connection.DisconnectEvent;
+import com.velocitypowered.api.event.connection.PostLoginEvent;
 import com.velocitypowered.api.proxy.ConsoleCommandSource;
 import com.velocitypowered.api.proxy.Player;
 import com.velocitypowered.api.proxy.ProxyServer;
@@ -17,6 +20,7 @@ import dev.kejona.crossplatforms.command.custom.InterceptCommandCache;
 import dev.kejona.crossplatforms.handler.BedrockHandler;
 import dev.kejona.crossplatforms.handler.FormPlayer;
 import dev.kejona.crossplatforms.handler.ServerHandler;
+import dev.kejona.crossplatforms.session.SessionRegistry;
 import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.identity.Identity;
 
@@ -133,7 +137,10 @@ public class VelocityHandler extends InterceptCommandCache implements ServerHand
         }
 
         String input = event.getCommand();
-        Logger.get().debug("preprocess command: [" + event.getCommand() + "] -> [" + input + "]");
+        Logger logger = Logger.get();
+        if (logger.isDebug()) {
+            logger.debug("preprocess command: [" + input + "]");
+        }
         InterceptCommand command = findCommand(input);
         if (command != null) {
             Player player = (Player) source;
@@ -151,4 +158,14 @@ public class VelocityHandler extends InterceptCommandCache implements ServerHand
             }
         }
     }
+
+    @Subscribe(order = PostOrder.FIRST)
+    public void onPostLogin(PostLoginEvent event) {
+        SessionRegistry.join(new VelocityPlayer(event.getPlayer()));
+    }
+
+    @Subscribe(order = PostOrder.LAST)
+    public void onDisconnect(DisconnectEvent event) {
+        SessionRegistry.quit(event.getPlayer().getUniqueId());
+    }
 }